@@ -4,26 +4,57 @@ import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import com.flipkart.automation.api.recording.ApiMode;
+import com.flipkart.automation.api.recording.InteractionStore;
+import com.flipkart.automation.api.recording.RecordingFilter;
+import com.flipkart.automation.api.recording.ReplayServer;
 import com.flipkart.automation.constants.FrameworkConstants;
 import com.flipkart.automation.utils.LoggerUtil;
+import java.net.URI;
 import java.util.Map;
 
 public class RestClient {
     
-    private RequestSpecification requestSpec;
+    // Each client keeps its own base URI; RestAssured's static defaults are shared by every thread
+    private final String baseUri;
+    private RecordingFilter recorder;
     
     public RestClient() {
-        RestAssured.baseURI = FrameworkConstants.BASE_URI;
+        this(FrameworkConstants.BASE_URI);
     }
     
     public RestClient(String baseUri) {
-        RestAssured.baseURI = baseUri;
+        this(baseUri, ApiMode.current());
+    }
+    
+    public RestClient(String baseUri, ApiMode mode) {
+        switch (mode) {
+            case RECORD:
+                recorder = new RecordingFilter(InteractionStore.forBaseUri(baseUri));
+                this.baseUri = baseUri;
+                break;
+                
+            case REPLAY:
+                ReplayServer server = ReplayServer.forStore(InteractionStore.forBaseUri(baseUri), 
+                    FrameworkConstants.API_REPLAY_LATENCY, FrameworkConstants.API_REPLAY_THREADS);
+                String basePath = URI.create(baseUri).getRawPath();
+                this.baseUri = server.getBaseUrl() + (basePath == null ? "" : basePath);
+                break;
+                
+            default:
+                this.baseUri = baseUri;
+        }
+        LoggerUtil.info("RestClient mode " + mode + " for: " + baseUri);
     }
     
     private RequestSpecification getRequestSpecification() {
-        requestSpec = RestAssured.given()
+        RequestSpecification requestSpec = RestAssured.given()
+            .baseUri(baseUri)
             .contentType(ContentType.JSON)
             .accept(ContentType.JSON);
+        if (recorder != null) {
+            requestSpec.filter(recorder);
+        }
         return requestSpec;
     }
     
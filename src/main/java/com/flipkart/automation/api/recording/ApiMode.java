@@ -0,0 +1,17 @@
+package com.flipkart.automation.api.recording;
+
+import com.flipkart.automation.constants.FrameworkConstants;
+
+public enum ApiMode {
+    LIVE,
+    RECORD,
+    REPLAY;
+    
+    public static ApiMode current() {
+        try {
+            return valueOf(FrameworkConstants.API_MODE.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("API mode not supported: " + FrameworkConstants.API_MODE, e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.flipkart.automation.api.recording;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flipkart.automation.constants.FrameworkConstants;
+import com.flipkart.automation.utils.LoggerUtil;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Recorded API interactions for one service, stored as JSON Lines and indexed by request key
+// in memory. Recording appends one line per request; compact() sorts the file by key and drops
+// replaced recordings once the suite is done. Repeated requests replay their responses in order.
+public class InteractionStore {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Map<Path, InteractionStore> stores = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final Map<String, List<RecordedInteraction>> interactions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> replayPositions = new ConcurrentHashMap<>();
+    private final Set<String> recordedKeys = new HashSet<>();
+    private boolean compacted = true;
+
+    public InteractionStore(Path file) {
+        this.file = file;
+        if (Files.exists(file)) {
+            load();
+        }
+    }
+
+    public static InteractionStore forBaseUri(String baseUri) {
+        URI uri = URI.create(baseUri);
+        String name = uri.getHost() + (uri.getPort() > 0 ? "_" + uri.getPort() : "") + ".jsonl";
+        return stores.computeIfAbsent(Paths.get(FrameworkConstants.API_RECORDINGS_PATH, name), InteractionStore::new);
+    }
+
+    public static void compactAll() {
+        for (InteractionStore store : stores.values()) {
+            store.compact();
+        }
+    }
+
+    public static String requestKey(String method, String path, String query, byte[] body) {
+        StringBuilder key = new StringBuilder(method.toUpperCase()).append(' ').append(path);
+        if (query != null && !query.isEmpty()) {
+            String[] params = query.split("&");
+            Arrays.sort(params);
+            key.append('?').append(String.join("&", params));
+        }
+        if (body != null && body.length > 0) {
+            key.append(" #").append(hash(body));
+        }
+        return key.toString();
+    }
+
+    private static String hash(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 6; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public RecordedInteraction match(String key) {
+        List<RecordedInteraction> recorded = interactions.get(key);
+        if (recorded == null || recorded.isEmpty()) {
+            return null;
+        }
+        int position = replayPositions.computeIfAbsent(key, k -> new AtomicInteger()).getAndIncrement();
+        return recorded.get(position % recorded.size());
+    }
+
+    // The first recording of a key in this run replaces what was on disk, later ones are appended
+    public synchronized void record(RecordedInteraction interaction) {
+        String key = interaction.getKey();
+        List<RecordedInteraction> updated = new ArrayList<>();
+        if (!recordedKeys.add(key)) {
+            updated.addAll(interactions.getOrDefault(key, Collections.emptyList()));
+        }
+        updated.add(interaction);
+        interactions.put(key, Collections.unmodifiableList(updated));
+        append(interaction);
+    }
+
+    public synchronized void compact() {
+        if (compacted) {
+            return;
+        }
+        try {
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (List<RecordedInteraction> recorded : new TreeMap<>(interactions).values()) {
+                    for (RecordedInteraction interaction : recorded) {
+                        writer.write(MAPPER.writeValueAsString(interaction));
+                        writer.newLine();
+                    }
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            compacted = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact API recordings: " + file, e);
+        }
+    }
+
+    private void load() {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                RecordedInteraction interaction = MAPPER.readValue(line, RecordedInteraction.class);
+                interactions.computeIfAbsent(interaction.getKey(), k -> new ArrayList<>()).add(interaction);
+            }
+            LoggerUtil.info("Loaded " + interactions.size() + " recorded API requests from: " + file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load API recordings: " + file, e);
+        }
+    }
+
+    private void append(RecordedInteraction interaction) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(MAPPER.writeValueAsString(interaction));
+                writer.newLine();
+            }
+            compacted = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save API recordings: " + file, e);
+        }
+    }
+}
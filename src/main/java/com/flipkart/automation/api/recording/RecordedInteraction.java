@@ -0,0 +1,51 @@
+package com.flipkart.automation.api.recording;
+
+public class RecordedInteraction {
+    
+    private String key;
+    private int status;
+    private String contentType;
+    private String body;
+    
+    public RecordedInteraction() {
+    }
+    
+    public RecordedInteraction(String key, int status, String contentType, String body) {
+        this.key = key;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+    }
+    
+    public String getKey() {
+        return key;
+    }
+    
+    public void setKey(String key) {
+        this.key = key;
+    }
+    
+    public int getStatus() {
+        return status;
+    }
+    
+    public void setStatus(int status) {
+        this.status = status;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+    
+    public String getBody() {
+        return body;
+    }
+    
+    public void setBody(String body) {
+        this.body = body;
+    }
+}
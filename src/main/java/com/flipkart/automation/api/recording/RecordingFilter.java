@@ -0,0 +1,69 @@
+package com.flipkart.automation.api.recording;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class RecordingFilter implements Filter {
+    
+    private final InteractionStore store;
+    
+    public RecordingFilter(InteractionStore store) {
+        this.store = store;
+    }
+    
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, 
+            FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        
+        URI uri = URI.create(requestSpec.getURI());
+        String key = InteractionStore.requestKey(requestSpec.getMethod(), uri.getRawPath(), 
+            uri.getRawQuery(), bodyBytes(requestSpec));
+        store.record(new RecordedInteraction(key, response.getStatusCode(), 
+            response.getContentType(), response.asString()));
+        
+        return response;
+    }
+    
+    // The bytes that went on the wire, so the key matches what the replay server reads
+    private static byte[] bodyBytes(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        if (body instanceof File) {
+            try {
+                return Files.readAllBytes(((File) body).toPath());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read request body file: " + body, e);
+            }
+        }
+        return body.toString().getBytes(charset(requestSpec.getContentType()));
+    }
+    
+    private static Charset charset(String contentType) {
+        if (contentType != null) {
+            for (String parameter : contentType.split(";")) {
+                String[] pair = parameter.trim().split("=", 2);
+                if (pair.length == 2 && "charset".equalsIgnoreCase(pair[0])) {
+                    return Charset.forName(pair[1].replace("\"", "").trim());
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+}
@@ -0,0 +1,103 @@
+package com.flipkart.automation.api.recording;
+
+import com.flipkart.automation.utils.LoggerUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Serves recorded interactions from an in-process HTTP server on a free loopback port
+public class ReplayServer {
+
+    private static final Map<Path, ReplayServer> servers = new ConcurrentHashMap<>();
+
+    private final InteractionStore store;
+    private final long latencyMillis;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public ReplayServer(InteractionStore store, long latencyMillis, int threads) {
+        this.store = store;
+        this.latencyMillis = latencyMillis;
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start API replay server", e);
+        }
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "api-replay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        LoggerUtil.info("API replay server for " + store.getFile().getFileName() + " started at " + getBaseUrl());
+    }
+
+    public static ReplayServer forStore(InteractionStore store, long latencyMillis, int threads) {
+        return servers.computeIfAbsent(store.getFile(), file -> new ReplayServer(store, latencyMillis, threads));
+    }
+
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        servers.remove(store.getFile(), this);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readAllBytes();
+            URI uri = exchange.getRequestURI();
+            String key = InteractionStore.requestKey(exchange.getRequestMethod(), uri.getRawPath(),
+                uri.getRawQuery(), body);
+
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+
+            RecordedInteraction interaction = store.match(key);
+            if (interaction == null) {
+                LoggerUtil.warn("No recorded API interaction for: " + key);
+                respond(exchange, 404, "application/json",
+                    "{\"error\":\"No recorded interaction\",\"request\":\"" + key.replace("\"", "\\\"") + "\"}");
+            } else {
+                respond(exchange, interaction.getStatus(), interaction.getContentType(), interaction.getBody());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body)
+            throws IOException {
+        byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        if (contentType != null && !contentType.isEmpty()) {
+            exchange.getResponseHeaders().add("Content-Type", contentType);
+        }
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.flipkart.automation.base;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import java.util.List;
 
 public class BasePage {
     
@@ -17,4 +20,15 @@ public class BasePage {
     public String getCurrentUrl() {
         return driver.getCurrentUrl();
     }
+    
+    public String getMetaContent(String name) {
+        List<WebElement> meta = driver.findElements(
+            By.xpath("//meta[@name='" + name + "' or @property='" + name + "']"));
+        return meta.isEmpty() ? null : meta.get(0).getAttribute("content");
+    }
+    
+    public String getCanonicalUrl() {
+        List<WebElement> link = driver.findElements(By.xpath("//link[@rel='canonical']"));
+        return link.isEmpty() ? null : link.get(0).getAttribute("href");
+    }
 }
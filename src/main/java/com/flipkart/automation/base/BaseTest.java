@@ -1,25 +1,34 @@
 package com.flipkart.automation.base;
 
 import com.flipkart.automation.constants.FrameworkConstants;
+import com.flipkart.automation.context.TestContext;
 import com.flipkart.automation.drivers.BrowserFactory;
 import com.flipkart.automation.reports.ExtentReportManager;
 import com.flipkart.automation.utils.LoggerUtil;
 import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
 import org.testng.annotations.*;
+import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.Arrays;
 
 public class BaseTest {
     
-    protected WebDriver driver;
+    // Instances are shared by parallel methods and data provider rows, so the driver lives in the test context
+    protected WebDriver getDriver() {
+        return TestContext.current().getDriver();
+    }
     
     @BeforeMethod(alwaysRun = true)
     @Parameters({"browser", "environment", "headless", "gridUrl"})
     public void setUp(
+            ITestResult result,
             @Optional("chrome") String browser,
             @Optional("qa") String environment,
             @Optional("false") String headless,
             @Optional("") String gridUrl) {
         
+        TestContext.begin();
         LoggerUtil.info("Starting test execution");
         
         browser = System.getProperty("browser", browser);
@@ -27,7 +36,11 @@ public class BaseTest {
         boolean isHeadless = Boolean.parseBoolean(System.getProperty("headless", headless));
         gridUrl = System.getProperty("gridUrl", gridUrl);
         
-        driver = BrowserFactory.createDriver(browser, isHeadless, gridUrl);
+        if (isLightweight(result)) {
+            browser = FrameworkConstants.LIGHTWEIGHT_BROWSER;
+        }
+        
+        WebDriver driver = BrowserFactory.createDriver(browser, isHeadless, gridUrl);
         driver.manage().timeouts().implicitlyWait(
             Duration.ofSeconds(FrameworkConstants.IMPLICIT_WAIT_TIMEOUT));
         driver.manage().timeouts().pageLoadTimeout(
@@ -39,9 +52,33 @@ public class BaseTest {
         LoggerUtil.info("Navigated to: " + url);
     }
     
+    // Uses TestNG's merged groups and the class the test runs on, so inherited test methods pick up
+    // groups and @Lightweight declared on the subclass
+    private boolean isLightweight(ITestResult result) {
+        Method method = result.getMethod().getConstructorOrMethod().getMethod();
+        Class<?> testClass = result.getTestClass().getRealClass();
+        if (method.isAnnotationPresent(Lightweight.class)) {
+            return true;
+        }
+        if (Arrays.asList(result.getMethod().getGroups()).contains(FrameworkConstants.LIGHTWEIGHT_GROUP)) {
+            return true;
+        }
+        for (Class<?> type = testClass; type != null; type = type.getSuperclass()) {
+            if (type.isAnnotationPresent(Lightweight.class) || hasLightweightGroup(type.getAnnotation(Test.class))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean hasLightweightGroup(Test test) {
+        return test != null && Arrays.asList(test.groups()).contains(FrameworkConstants.LIGHTWEIGHT_GROUP);
+    }
+    
     @AfterMethod(alwaysRun = true)
     public void tearDown() {
         BrowserFactory.quitDriver();
         LoggerUtil.info("Test execution completed");
+        TestContext.end();
     }
 }
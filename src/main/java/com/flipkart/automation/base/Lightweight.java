@@ -0,0 +1,12 @@
+package com.flipkart.automation.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Runs the annotated test (or every test in the annotated class) on the in-JVM htmlunit driver
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Lightweight {
+}
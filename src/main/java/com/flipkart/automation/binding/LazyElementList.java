@@ -0,0 +1,64 @@
+package com.flipkart.automation.binding;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+
+// Finds the elements when the list is read. Iterating looks them up once, not once per element.
+// Fields marked @CacheLookup keep the first list found instead.
+public class LazyElementList extends AbstractList<WebElement> {
+
+    private final SearchContext context;
+    private final By by;
+    private final boolean cacheLookup;
+    private List<WebElement> cached;
+
+    public LazyElementList(SearchContext context, By by) {
+        this(context, by, false);
+    }
+
+    public LazyElementList(SearchContext context, By by, boolean cacheLookup) {
+        this.context = context;
+        this.by = by;
+        this.cacheLookup = cacheLookup;
+    }
+
+    private List<WebElement> resolve() {
+        if (!cacheLookup) {
+            return context.findElements(by);
+        }
+        if (cached == null) {
+            cached = context.findElements(by);
+        }
+        return cached;
+    }
+
+    @Override
+    public WebElement get(int index) {
+        return resolve().get(index);
+    }
+
+    @Override
+    public int size() {
+        return resolve().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return resolve().isEmpty();
+    }
+
+    @Override
+    public Iterator<WebElement> iterator() {
+        return resolve().iterator();
+    }
+
+    @Override
+    public String toString() {
+        return "Lazy element list " + by;
+    }
+}
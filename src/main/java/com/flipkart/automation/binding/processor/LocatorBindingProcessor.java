@@ -0,0 +1,428 @@
+package com.flipkart.automation.binding.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Generates a <Page>Bindings class for every page with @FindBy, @FindBys or @FindAll fields. The class
+// holds the locators as constants and a bind() method that assigns lazy elements to the fields, so page
+// objects are built without PageFactory's reflection and proxies. Locators are checked while compiling.
+// WebElement fields without a locator get PageFactory's default of looking up their name as id or name.
+@SupportedAnnotationTypes({LocatorBindingProcessor.FIND_BY, LocatorBindingProcessor.FIND_BYS,
+    LocatorBindingProcessor.FIND_ALL, LocatorBindingProcessor.CACHE_LOOKUP})
+public class LocatorBindingProcessor extends AbstractProcessor {
+
+    static final String FIND_BY = "org.openqa.selenium.support.FindBy";
+    static final String FIND_BYS = "org.openqa.selenium.support.FindBys";
+    static final String FIND_ALL = "org.openqa.selenium.support.FindAll";
+    static final String CACHE_LOOKUP = "org.openqa.selenium.support.CacheLookup";
+    private static final List<String> LOCATORS = Arrays.asList(FIND_BY, FIND_BYS, FIND_ALL);
+    private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        // Pages are walked field by field so the bindings keep declaration order across annotation types
+        Set<TypeElement> pages = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    pages.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+
+        for (TypeElement page : pages) {
+            List<Binding> bindings = new ArrayList<>();
+            for (VariableElement field : ElementFilter.fieldsIn(page.getEnclosedElements())) {
+                List<AnnotationMirror> locators = locatorAnnotations(field);
+                Binding binding = locators.isEmpty() ? toDefaultBinding(field) : toBinding(field, locators);
+                if (binding != null) {
+                    bindings.add(binding);
+                }
+            }
+            if (bindings.isEmpty()) {
+                continue;
+            }
+            if (page.getNestingKind() != NestingKind.TOP_LEVEL) {
+                error(page, "@FindBy fields are only supported on top-level page classes");
+                continue;
+            }
+            writeBindings(page, bindings);
+        }
+        return false;
+    }
+
+    // PageFactory finds a WebElement without a locator by its field name as id or name, so the binding
+    // does too. It leaves such a list null, which is reported here rather than failing at run time.
+    private Binding toDefaultBinding(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (isWebElementList(field.asType())) {
+            error(field, "List<WebElement> field " + name + " needs a @FindBy, @FindBys or @FindAll locator");
+            return null;
+        }
+        if (!isWebElement(field.asType())) {
+            if (findAnnotation(field, CACHE_LOOKUP) != null) {
+                error(field, "@CacheLookup field " + name + " needs a @FindBy, @FindBys or @FindAll locator");
+            }
+            return null;
+        }
+        if (!isAssignable(field)) {
+            error(field, "WebElement field " + name + " has no locator, so it is bound by id or name and must not "
+                + "be private, final or static; add a locator or move it out of the page");
+            return null;
+        }
+        return new Binding(name, byExpression("idOrName", name), false, findAnnotation(field, CACHE_LOOKUP) != null);
+    }
+
+    private Binding toBinding(VariableElement field, List<AnnotationMirror> locators) {
+        String annotation = "@" + locators.get(0).getAnnotationType().asElement().getSimpleName();
+        if (!isAssignable(field)) {
+            error(field, annotation + " field must not be private, final or static so the generated binding can set it");
+            return null;
+        }
+
+        boolean list;
+        if (isWebElement(field.asType())) {
+            list = false;
+        } else if (isWebElementList(field.asType())) {
+            list = true;
+        } else {
+            error(field, annotation + " field must be a WebElement or List<WebElement>");
+            return null;
+        }
+
+        if (locators.size() > 1) {
+            error(field, "Use only one of @FindBy, @FindBys or @FindAll on a field");
+            return null;
+        }
+
+        AnnotationMirror locator = locators.get(0);
+        String by;
+        if (FIND_BY.equals(locator.getAnnotationType().toString())) {
+            by = toBy(field, locator);
+        } else {
+            by = toCombinedBy(field, locator, annotation);
+        }
+        if (by == null) {
+            return null;
+        }
+        return new Binding(field.getSimpleName().toString(), by, list, findAnnotation(field, CACHE_LOOKUP) != null);
+    }
+
+    // @FindBys chains its locators, each searching inside the last match; @FindAll matches any of them
+    private String toCombinedBy(VariableElement field, AnnotationMirror locator, String annotation) {
+        List<String> parts = new ArrayList<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : locator.getElementValues().entrySet()) {
+            if (!"value".contentEquals(entry.getKey().getSimpleName())) {
+                continue;
+            }
+            for (Object value : (List<?>) entry.getValue().getValue()) {
+                String by = toBy(field, (AnnotationMirror) ((AnnotationValue) value).getValue());
+                if (by == null) {
+                    return null;
+                }
+                parts.add(by);
+            }
+        }
+        if (parts.isEmpty()) {
+            error(field, annotation + " needs at least one @FindBy");
+            return null;
+        }
+        String type = FIND_BYS.equals(locator.getAnnotationType().toString()) ? "ByChained" : "ByAll";
+        return "new " + type + "(" + String.join(", ", parts) + ")";
+    }
+
+    private String toBy(VariableElement field, AnnotationMirror findBy) {
+        Map<String, String> values = annotationValues(findBy);
+        String how = values.getOrDefault("how", "UNSET");
+        String using = values.getOrDefault("using", "");
+        values.remove("how");
+        values.remove("using");
+
+        if (values.size() > 1 || (!values.isEmpty() && !"UNSET".equals(how))) {
+            error(field, "@FindBy must use exactly one locator strategy");
+            return null;
+        }
+
+        String strategy;
+        String locator;
+        if (!values.isEmpty()) {
+            Map.Entry<String, String> value = values.entrySet().iterator().next();
+            strategy = value.getKey();
+            locator = value.getValue();
+        } else if (!"UNSET".equals(how)) {
+            strategy = fromHow(how);
+            locator = using;
+        } else {
+            strategy = "idOrName";
+            locator = field.getSimpleName().toString();
+        }
+
+        String problem = validate(strategy, locator);
+        if (problem != null) {
+            error(field, "Invalid @FindBy " + strategy + " locator \"" + locator + "\": " + problem);
+            return null;
+        }
+        return byExpression(strategy, locator);
+    }
+
+    private static Map<String, String> annotationValues(AnnotationMirror mirror) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : mirror.getElementValues().entrySet()) {
+            Object value = entry.getValue().getValue();
+            String text = value instanceof VariableElement
+                ? ((VariableElement) value).getSimpleName().toString() : value.toString();
+            values.put(entry.getKey().getSimpleName().toString(), text);
+        }
+        return values;
+    }
+
+    private static boolean isAssignable(VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        return !modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.FINAL)
+            && !modifiers.contains(Modifier.STATIC);
+    }
+
+    private static List<AnnotationMirror> locatorAnnotations(VariableElement field) {
+        List<AnnotationMirror> locators = new ArrayList<>();
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (LOCATORS.contains(mirror.getAnnotationType().toString())) {
+                locators.add(mirror);
+            }
+        }
+        return locators;
+    }
+
+    private static AnnotationMirror findAnnotation(VariableElement field, String type) {
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (type.equals(mirror.getAnnotationType().toString())) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static String byExpression(String strategy, String locator) {
+        String literal = quote(locator);
+        switch (strategy) {
+            case "css": return "By.cssSelector(" + literal + ")";
+            case "idOrName": return "new ByIdOrName(" + literal + ")";
+            default: return "By." + strategy + "(" + literal + ")";
+        }
+    }
+
+    private static String quote(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private static String fromHow(String how) {
+        switch (how) {
+            case "CLASS_NAME": return "className";
+            case "CSS": return "css";
+            case "ID": return "id";
+            case "ID_OR_NAME": return "idOrName";
+            case "LINK_TEXT": return "linkText";
+            case "NAME": return "name";
+            case "PARTIAL_LINK_TEXT": return "partialLinkText";
+            case "TAG_NAME": return "tagName";
+            case "XPATH": return "xpath";
+            default: throw new IllegalArgumentException("Unknown How: " + how);
+        }
+    }
+
+    private static String validate(String strategy, String locator) {
+        if (locator.trim().isEmpty()) {
+            return "locator is empty";
+        }
+        switch (strategy) {
+            case "xpath":
+                try {
+                    XPathFactory.newInstance().newXPath().compile(locator);
+                    return null;
+                } catch (XPathExpressionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    return String.valueOf(cause.getMessage());
+                }
+            case "css":
+                return validateCss(locator);
+            case "className":
+                return locator.trim().contains(" ") ? "compound class names are not supported, use css" : null;
+            default:
+                return null;
+        }
+    }
+
+    // Catches the mistakes that are common in hand-written selectors: unbalanced brackets or quotes
+    // and dangling combinators. Anything subtler is left to the browser.
+    private static String validateCss(String selector) {
+        StringBuilder open = new StringBuilder();
+        char quote = 0;
+        for (int i = 0; i < selector.length(); i++) {
+            char c = selector.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                open.append(c == '[' ? ']' : ')');
+            } else if (c == ']' || c == ')') {
+                if (open.length() == 0 || open.charAt(open.length() - 1) != c) {
+                    return "unexpected '" + c + "' at position " + i;
+                }
+                open.setLength(open.length() - 1);
+            }
+        }
+        if (quote != 0) {
+            return "unclosed string";
+        }
+        if (open.length() > 0) {
+            return "missing '" + open.charAt(open.length() - 1) + "'";
+        }
+        for (String part : selector.split(",", -1)) {
+            String trimmed = part.trim();
+            if (trimmed.isEmpty()) {
+                return "empty selector in list";
+            }
+            if (">+~".indexOf(trimmed.charAt(0)) >= 0 || ">+~".indexOf(trimmed.charAt(trimmed.length() - 1)) >= 0) {
+                return "dangling combinator in \"" + trimmed + "\"";
+            }
+        }
+        return null;
+    }
+
+    private boolean isWebElement(TypeMirror type) {
+        TypeElement webElement = processingEnv.getElementUtils().getTypeElement(WEB_ELEMENT);
+        return webElement != null && processingEnv.getTypeUtils().isSameType(type, webElement.asType());
+    }
+
+    private boolean isWebElementList(TypeMirror type) {
+        Types types = processingEnv.getTypeUtils();
+        TypeElement listType = processingEnv.getElementUtils().getTypeElement("java.util.List");
+        if (!(type instanceof DeclaredType)
+                || !types.isSameType(types.erasure(type), types.erasure(listType.asType()))) {
+            return false;
+        }
+        List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        return arguments.size() == 1 && isWebElement(arguments.get(0));
+    }
+
+    private void writeBindings(TypeElement page, List<Binding> bindings) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(page).getQualifiedName().toString();
+        String pageName = page.getSimpleName().toString();
+        String className = pageName + "Bindings";
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import com.flipkart.automation.binding.LazyElement;\n")
+            .append("import com.flipkart.automation.binding.LazyElementList;\n")
+            .append("import org.openqa.selenium.By;\n")
+            .append("import org.openqa.selenium.SearchContext;\n");
+        if (bindings.stream().anyMatch(binding -> binding.by.contains("new ByIdOrName("))) {
+            source.append("import org.openqa.selenium.support.ByIdOrName;\n");
+        }
+        if (bindings.stream().anyMatch(binding -> binding.by.contains("new ByAll("))) {
+            source.append("import org.openqa.selenium.support.pagefactory.ByAll;\n");
+        }
+        if (bindings.stream().anyMatch(binding -> binding.by.contains("new ByChained("))) {
+            source.append("import org.openqa.selenium.support.pagefactory.ByChained;\n");
+        }
+        source.append("\nimport javax.annotation.processing.Generated;\n\n")
+            .append("@Generated(\"").append(LocatorBindingProcessor.class.getName()).append("\")\n")
+            .append("final class ").append(className).append(" {\n\n");
+
+        for (Binding binding : bindings) {
+            source.append("    static final By ").append(binding.constant()).append(" = ")
+                .append(binding.by).append(";\n");
+        }
+
+        source.append("\n    private ").append(className).append("() {\n    }\n\n")
+            .append("    static void bind(").append(pageName).append(" page, SearchContext context) {\n");
+        for (Binding binding : bindings) {
+            source.append("        page.").append(binding.field).append(" = new ")
+                .append(binding.list ? "LazyElementList" : "LazyElement")
+                .append("(context, ").append(binding.constant()).append(binding.cached ? ", true" : "")
+                .append(");\n");
+        }
+        source.append("    }\n}\n");
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, page).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + qualifiedName, e);
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static class Binding {
+
+        private final String field;
+        private final String by;
+        private final boolean list;
+        private final boolean cached;
+
+        Binding(String field, String by, boolean list, boolean cached) {
+            this.field = field;
+            this.by = by;
+            this.list = list;
+            this.cached = cached;
+        }
+
+        String constant() {
+            return field.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+        }
+    }
+}
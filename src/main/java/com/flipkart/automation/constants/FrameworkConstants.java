@@ -18,11 +18,43 @@ public final class FrameworkConstants {
         "/test-output/screenshots/";
     public static final String EXTENT_REPORT_PATH = System.getProperty("user.dir") + 
         "/test-output/extent-reports/";
+    public static final String TEST_DATA_PATH = System.getProperty("user.dir") + 
+        "/src/test/resources/testdata/";
+    public static final String API_RECORDINGS_PATH = System.getProperty("user.dir") + 
+        "/src/test/resources/api-recordings/";
+    public static final String METRICS_PATH = System.getProperty("user.dir") + 
+        "/test-output/metrics/";
+    
+    // Selenium Grid admission
+    public static final boolean GRID_ADMISSION_ENABLED = 
+        Boolean.parseBoolean(System.getProperty("gridAdmission", "true"));
+    public static final int GRID_SLOT_TIMEOUT = 300;
+    public static final int GRID_SESSION_TIMEOUT = 120;
+    public static final int GRID_STATUS_REFRESH_INTERVAL = 5;
     
     // Retry
     public static final int MAX_RETRY_COUNT = 2;
     
+    // Lightweight tier
+    public static final String LIGHTWEIGHT_GROUP = "lightweight";
+    public static final String LIGHTWEIGHT_BROWSER = "htmlunit";
+    
+    // Metrics
+    public static final boolean COMMAND_METRICS_ENABLED = 
+        Boolean.parseBoolean(System.getProperty("commandMetrics", "true"));
+    
+    // Failure evidence
+    public static final String EVIDENCE_PATH = System.getProperty("user.dir") + 
+        "/test-output/evidence/";
+    public static final int EVIDENCE_BUFFER_SIZE = Integer.getInteger("evidenceBufferSize", 50);
+    public static final String EVIDENCE_CAPTURE = System.getProperty("evidenceCapture", "commands,urls,console");
+    public static final int EVIDENCE_DOM_SNAPSHOTS = 3;
+    public static final int EVIDENCE_CONSOLE_ENTRIES = 50;
+    
     // API
     public static final String BASE_URI = "https://www.flipkart.com/api";
     public static final int API_TIMEOUT = 30000;
+    public static final String API_MODE = System.getProperty("apiMode", "live");
+    public static final int API_REPLAY_LATENCY = Integer.getInteger("apiReplayLatency", 0);
+    public static final int API_REPLAY_THREADS = 16;
 }
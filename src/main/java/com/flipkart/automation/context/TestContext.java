@@ -0,0 +1,127 @@
+package com.flipkart.automation.context;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.flipkart.automation.api.client.RestClient;
+import com.flipkart.automation.constants.FrameworkConstants;
+import org.apache.logging.log4j.ThreadContext;
+import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// State owned by a single test invocation. TestNG runs an invocation's @BeforeMethod, test and
+// @AfterMethod on one thread, so the context is bound to that thread from begin() until the next
+// invocation on the thread begins or end() is called. The context belongs to the invocation whose
+// ITestResult it was bound to, so it is never handed to a later invocation on the same thread.
+public class TestContext {
+
+    private static final String LOG_KEY = "test";
+    private static final AtomicLong ids = new AtomicLong();
+    private static final ThreadLocal<TestContext> current = new ThreadLocal<>();
+
+    private final long id = ids.incrementAndGet();
+    private final Map<String, RestClient> restClients = new HashMap<>();
+    private String testName;
+    private WebDriver driver;
+    private ExtentTest reportNode;
+    private Duration explicitWait = Duration.ofSeconds(FrameworkConstants.EXPLICIT_WAIT_TIMEOUT);
+    private Duration gridSlotWait;
+    private ITestResult result;
+
+    // @BeforeMethod runs before TestNG creates the test's result, so this joins a context that is not
+    // bound to a result yet and otherwise starts a new one
+    public static TestContext begin() {
+        TestContext context = current.get();
+        return context != null && context.result == null ? context : start();
+    }
+
+    // Binds the context started by @BeforeMethod to the test's result, or starts one when the last
+    // context on this thread belongs to another invocation
+    public static TestContext begin(ITestResult result) {
+        TestContext context = current.get();
+        if (context == null || (context.result != null && context.result != result)) {
+            context = start();
+        }
+        context.result = result;
+        return context;
+    }
+
+    private static TestContext start() {
+        TestContext context = new TestContext();
+        current.set(context);
+        ThreadContext.put(LOG_KEY, context.toString());
+        return context;
+    }
+
+    public static TestContext current() {
+        TestContext context = current.get();
+        if (context == null) {
+            throw new IllegalStateException("No test context on thread " + Thread.currentThread().getName()
+                + ", the driver and report are only available inside a test invocation");
+        }
+        return context;
+    }
+
+    public static void end() {
+        current.remove();
+        ThreadContext.remove(LOG_KEY);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    public void setTestName(String testName) {
+        this.testName = testName;
+        ThreadContext.put(LOG_KEY, toString());
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public void setDriver(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public RestClient getRestClient(String baseUri) {
+        return restClients.computeIfAbsent(baseUri, RestClient::new);
+    }
+
+    public ExtentTest getReportNode() {
+        return reportNode;
+    }
+
+    public void setReportNode(ExtentTest reportNode) {
+        this.reportNode = reportNode;
+    }
+
+    public Duration getExplicitWait() {
+        return explicitWait;
+    }
+
+    public void setExplicitWait(Duration explicitWait) {
+        this.explicitWait = explicitWait;
+    }
+
+    // Null unless the driver was admitted through grid admission control
+    public Duration getGridSlotWait() {
+        return gridSlotWait;
+    }
+
+    public void setGridSlotWait(Duration gridSlotWait) {
+        this.gridSlotWait = gridSlotWait;
+    }
+
+    @Override
+    public String toString() {
+        return (testName != null ? testName : "test") + "#" + id;
+    }
+}
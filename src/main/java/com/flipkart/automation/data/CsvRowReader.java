@@ -0,0 +1,127 @@
+package com.flipkart.automation.data;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+public class CsvRowReader implements RowReader {
+    
+    private final BufferedReader reader;
+    private final List<String> headers;
+    private List<String> nextRecord;
+    
+    public CsvRowReader(Path path) {
+        try {
+            this.reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+            // Files saved from Excel start with a byte order mark that would end up in the first header
+            reader.mark(1);
+            if (reader.read() != '\uFEFF') {
+                reader.reset();
+            }
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV file has no header row: " + path);
+            }
+            this.headers = header;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open CSV file: " + path, e);
+        }
+    }
+    
+    @Override
+    public boolean hasNext() {
+        if (nextRecord == null) {
+            try {
+                nextRecord = readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read CSV row", e);
+            }
+        }
+        return nextRecord != null;
+    }
+    
+    @Override
+    public Map<String, Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < headers.size() && i < nextRecord.size(); i++) {
+            if (!nextRecord.get(i).isEmpty()) {
+                row.put(headers.get(i), nextRecord.get(i));
+            }
+        }
+        nextRecord = null;
+        return row;
+    }
+    
+    // RFC 4180: quoted fields may contain commas, doubled quotes and line breaks; blank lines are skipped.
+    // Unquoted fields are trimmed, quoted fields are kept exactly as written between the quotes.
+    private List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.trim().isEmpty()) {
+            line = reader.readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+        
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldQuoted = false;
+        
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"' && field.toString().trim().isEmpty()) {
+                    field.setLength(0);
+                    quoted = true;
+                    fieldQuoted = true;
+                } else if (c == ',') {
+                    fields.add(fieldQuoted ? field.toString() : field.toString().trim());
+                    field.setLength(0);
+                    fieldQuoted = false;
+                } else if (!fieldQuoted || !Character.isWhitespace(c)) {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                throw new IllegalStateException("Unterminated quoted CSV field");
+            }
+            field.append('\n');
+        }
+        fields.add(fieldQuoted ? field.toString() : field.toString().trim());
+        return fields;
+    }
+    
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            // Nothing left to read
+        }
+    }
+}
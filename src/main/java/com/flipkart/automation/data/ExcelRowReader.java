@@ -0,0 +1,173 @@
+package com.flipkart.automation.data;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// Parses the sheet XML with POI's SAX handler on a background thread and hands rows over
+// through a small bounded queue, so neither the workbook nor the sheet is held in memory.
+public class ExcelRowReader implements RowReader {
+
+    private static final int QUEUE_CAPACITY = 256;
+    private static final Object END_OF_SHEET = new Object();
+
+    private final OPCPackage workbook;
+    private final BlockingQueue<Object> rows = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread parser;
+    private volatile boolean closed;
+    private Object nextRow;
+
+    public ExcelRowReader(Path path) {
+        this(path, null);
+    }
+
+    public ExcelRowReader(Path path, String sheetName) {
+        try {
+            this.workbook = OPCPackage.open(path.toFile(), PackageAccess.READ);
+            XSSFReader reader = new XSSFReader(workbook);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(workbook);
+            StylesTable styles = reader.getStylesTable();
+            InputStream sheet = findSheet(reader, sheetName, path);
+
+            this.parser = new Thread(() -> parse(sheet, styles, strings), "excel-row-reader");
+            this.parser.setDaemon(true);
+            this.parser.start();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to open Excel file: " + path, e);
+        }
+    }
+
+    private static InputStream findSheet(XSSFReader reader, String sheetName, Path path) throws Exception {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while (sheets.hasNext()) {
+            InputStream sheet = sheets.next();
+            if (sheetName == null || sheetName.equalsIgnoreCase(sheets.getSheetName())) {
+                return sheet;
+            }
+            sheet.close();
+        }
+        throw new IllegalArgumentException("Sheet '" + sheetName + "' not found in " + path);
+    }
+
+    private void parse(InputStream sheet, StylesTable styles, ReadOnlySharedStringsTable strings) {
+        try (InputStream in = sheet) {
+            XMLReader xmlReader = XMLHelper.newXMLReader();
+            xmlReader.setContentHandler(new XSSFSheetXMLHandler(
+                styles, strings, new RowHandler(), new DataFormatter(), false));
+            xmlReader.parse(new InputSource(in));
+            enqueue(END_OF_SHEET);
+        } catch (ReaderClosedException e) {
+            // Consumer stopped early
+        } catch (Exception e) {
+            try {
+                enqueue(new IllegalStateException("Failed to parse Excel sheet", e));
+            } catch (ReaderClosedException ignored) {
+                // Consumer stopped early
+            }
+        }
+    }
+
+    private void enqueue(Object item) {
+        try {
+            rows.put(item);
+        } catch (InterruptedException e) {
+            throw new ReaderClosedException();
+        }
+        if (closed) {
+            throw new ReaderClosedException();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRow == null) {
+            try {
+                nextRow = rows.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while reading Excel rows", e);
+            }
+        }
+        if (nextRow instanceof RuntimeException) {
+            throw (RuntimeException) nextRow;
+        }
+        return nextRow != END_OF_SHEET;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Map<String, Object> row = (Map<String, Object>) nextRow;
+        nextRow = null;
+        return row;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        parser.interrupt();
+        try {
+            workbook.revert();
+        } catch (Exception e) {
+            // Opened read-only, nothing to roll back
+        }
+    }
+
+    private class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Map<Integer, String> headers = new HashMap<>();
+        private Map<String, Object> currentRow;
+        private boolean headerRow = true;
+
+        @Override
+        public void startRow(int rowNum) {
+            currentRow = new LinkedHashMap<>();
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = new CellReference(cellReference).getCol();
+            if (headerRow) {
+                headers.put(column, formattedValue.trim());
+            } else if (headers.containsKey(column) && !formattedValue.isEmpty()) {
+                currentRow.put(headers.get(column), formattedValue);
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (headerRow) {
+                headerRow = headers.isEmpty();
+                return;
+            }
+            if (!currentRow.isEmpty()) {
+                enqueue(currentRow);
+            }
+        }
+    }
+
+    // Unchecked so it can unwind the SAX parse from inside the handler callbacks
+    private static class ReaderClosedException extends RuntimeException {
+    }
+}
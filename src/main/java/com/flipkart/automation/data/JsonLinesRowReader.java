@@ -0,0 +1,73 @@
+package com.flipkart.automation.data;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+public class JsonLinesRowReader implements RowReader {
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<Map<String, Object>>() {};
+    
+    private final BufferedReader reader;
+    private String nextLine;
+    private long lineNumber;
+    
+    public JsonLinesRowReader(Path path) {
+        try {
+            this.reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open JSON Lines file: " + path, e);
+        }
+    }
+    
+    @Override
+    public boolean hasNext() {
+        try {
+            while (nextLine == null) {
+                String line = reader.readLine();
+                if (line == null) {
+                    return false;
+                }
+                lineNumber++;
+                if (!line.trim().isEmpty()) {
+                    nextLine = line;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read JSON Lines row", e);
+        }
+    }
+    
+    @Override
+    public Map<String, Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return MAPPER.readValue(nextLine, ROW_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Invalid JSON on line " + lineNumber, e);
+        } finally {
+            nextLine = null;
+        }
+    }
+    
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            // Nothing left to read
+        }
+    }
+}
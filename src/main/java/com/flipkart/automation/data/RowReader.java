@@ -0,0 +1,12 @@
+package com.flipkart.automation.data;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.Map;
+
+// Lazily reads one data row at a time, keyed by header name
+public interface RowReader extends Iterator<Map<String, Object>>, Closeable {
+    
+    @Override
+    void close();
+}
@@ -0,0 +1,153 @@
+package com.flipkart.automation.data;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flipkart.automation.constants.FrameworkConstants;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Streams test data rows from CSV, JSON Lines or .xlsx files into TestNG data providers.
+// Rows are read, filtered and mapped one at a time and the file is closed once exhausted.
+public class TestDataProvider {
+    
+    public static final String TAGS_COLUMN = "tags";
+    public static final String ENVIRONMENT_COLUMN = "environment";
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    
+    public static <T> Iterator<Object[]> stream(String fileName, Class<T> type, String... tags) {
+        return stream(resolve(fileName), type, System.getProperty("environment", "qa"), tags);
+    }
+    
+    public static <T> Iterator<Object[]> stream(Path file, Class<T> type, String environment, String... tags) {
+        Iterator<T> records = records(file, type, environment, tags);
+        return new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+            
+            @Override
+            public Object[] next() {
+                return new Object[] {records.next()};
+            }
+        };
+    }
+    
+    public static <T> Iterator<T> records(Path file, Class<T> type, String environment, String... tags) {
+        return new FilteringIterator<>(openReader(file), type, environment, Arrays.asList(tags));
+    }
+    
+    public static RowReader openReader(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".csv")) {
+            return new CsvRowReader(file);
+        } else if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+            return new JsonLinesRowReader(file);
+        } else if (name.endsWith(".xlsx")) {
+            return new ExcelRowReader(file);
+        }
+        throw new IllegalArgumentException("Unsupported test data format: " + file);
+    }
+    
+    private static Path resolve(String fileName) {
+        Path path = Paths.get(fileName);
+        return path.isAbsolute() ? path : Paths.get(FrameworkConstants.TEST_DATA_PATH, fileName);
+    }
+    
+    static boolean matches(Map<String, Object> row, String environment, Collection<String> tags) {
+        Set<String> rowEnvironments = values(row.get(ENVIRONMENT_COLUMN));
+        if (!rowEnvironments.isEmpty() && environment != null 
+                && !rowEnvironments.contains(environment.toLowerCase())) {
+            return false;
+        }
+        if (tags.isEmpty()) {
+            return true;
+        }
+        Set<String> rowTags = values(row.get(TAGS_COLUMN));
+        return tags.stream().anyMatch(tag -> rowTags.contains(tag.toLowerCase()));
+    }
+    
+    // Accepts "a|b", "a,b" or "a;b" in flat files and arrays in JSON Lines
+    private static Set<String> values(Object value) {
+        if (value == null) {
+            return Set.of();
+        }
+        Collection<?> items = value instanceof Collection 
+            ? (Collection<?>) value 
+            : Arrays.asList(value.toString().split("[|,;]"));
+        return items.stream()
+            .map(item -> item.toString().trim().toLowerCase())
+            .filter(item -> !item.isEmpty())
+            .collect(Collectors.toSet());
+    }
+    
+    private static class FilteringIterator<T> implements Iterator<T> {
+        
+        private final RowReader reader;
+        private final Class<T> type;
+        private final String environment;
+        private final Collection<String> tags;
+        private T next;
+        private boolean open = true;
+        
+        FilteringIterator(RowReader reader, Class<T> type, String environment, Collection<String> tags) {
+            this.reader = reader;
+            this.type = type;
+            this.environment = environment;
+            this.tags = tags;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            try {
+                while (next == null && open) {
+                    if (!reader.hasNext()) {
+                        close();
+                        break;
+                    }
+                    Map<String, Object> row = reader.next();
+                    if (matches(row, environment, tags)) {
+                        next = map(row);
+                    }
+                }
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+            return next != null;
+        }
+        
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T record = next;
+            next = null;
+            return record;
+        }
+        
+        private void close() {
+            open = false;
+            reader.close();
+        }
+        
+        @SuppressWarnings("unchecked")
+        private T map(Map<String, Object> row) {
+            if (type.isInstance(row)) {
+                return (T) row;
+            }
+            return MAPPER.convertValue(row, type);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.flipkart.automation.drivers;
 
 import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -9,26 +10,43 @@ import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import com.flipkart.automation.constants.FrameworkConstants;
+import com.flipkart.automation.context.TestContext;
+import com.flipkart.automation.evidence.FailureEvidence;
+import com.flipkart.automation.metrics.FrameworkMetric;
+import com.flipkart.automation.metrics.FrameworkMetrics;
 import com.flipkart.automation.utils.LoggerUtil;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class BrowserFactory {
     
-    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static final ThreadLocal<Runnable> slotRelease = new ThreadLocal<>();
+    private static final Map<String, GridAdmissionController> admissionControllers = new ConcurrentHashMap<>();
     
     public static WebDriver createDriver(String browser, boolean headless, String gridUrl) {
         WebDriver webDriver;
         
         try {
-            if (gridUrl != null && !gridUrl.isEmpty()) {
+            if (FrameworkConstants.LIGHTWEIGHT_BROWSER.equalsIgnoreCase(browser)) {
+                webDriver = new LightweightHtmlDriver();
+            } else if (gridUrl != null && !gridUrl.isEmpty()) {
                 webDriver = createRemoteDriver(browser, headless, gridUrl);
             } else {
                 webDriver = createLocalDriver(browser, headless);
             }
             
-            driver.set(webDriver);
+            webDriver = decorate(webDriver);
+            
+            TestContext.current().setDriver(webDriver);
             LoggerUtil.info("Browser initialized: " + browser);
             return webDriver;
             
@@ -38,6 +56,21 @@ public class BrowserFactory {
         }
     }
     
+    private static WebDriver decorate(WebDriver webDriver) {
+        List<WebDriverListener> listeners = new ArrayList<>();
+        if (FrameworkConstants.COMMAND_METRICS_ENABLED) {
+            listeners.add(new CommandTimingListener());
+        }
+        if (FailureEvidence.isEnabled()) {
+            listeners.add(new EvidenceListener(webDriver));
+        }
+        if (listeners.isEmpty()) {
+            return webDriver;
+        }
+        return new EventFiringDecorator<>(WebDriver.class, listeners.toArray(new WebDriverListener[0]))
+            .decorate(webDriver);
+    }
+    
     private static WebDriver createLocalDriver(String browser, boolean headless) {
         WebDriver webDriver;
         
@@ -67,25 +100,46 @@ public class BrowserFactory {
     private static WebDriver createRemoteDriver(String browser, boolean headless, String gridUrl) 
             throws MalformedURLException {
         
-        RemoteWebDriver remoteDriver;
+        Capabilities capabilities;
         
         switch (browser.toLowerCase()) {
             case "chrome":
-                remoteDriver = new RemoteWebDriver(new URL(gridUrl), getChromeOptions(headless));
+                capabilities = getChromeOptions(headless);
                 break;
                 
             case "firefox":
-                remoteDriver = new RemoteWebDriver(new URL(gridUrl), getFirefoxOptions(headless));
+                capabilities = getFirefoxOptions(headless);
                 break;
                 
             case "edge":
-                remoteDriver = new RemoteWebDriver(new URL(gridUrl), getEdgeOptions(headless));
+                capabilities = getEdgeOptions(headless);
                 break;
                 
             default:
                 throw new IllegalArgumentException("Browser not supported: " + browser);
         }
         
+        URL url = new URL(gridUrl);
+        if (!FrameworkConstants.GRID_ADMISSION_ENABLED) {
+            return new RemoteWebDriver(url, capabilities);
+        }
+        
+        GridAdmissionController controller = admissionControllers.computeIfAbsent(gridUrl, 
+            key -> new GridAdmissionController(key,
+                Duration.ofSeconds(FrameworkConstants.GRID_SLOT_TIMEOUT),
+                Duration.ofSeconds(FrameworkConstants.GRID_SESSION_TIMEOUT),
+                Duration.ofSeconds(FrameworkConstants.GRID_STATUS_REFRESH_INTERVAL)));
+        
+        WebDriver remoteDriver = controller.createSession(browser, 
+            () -> new RemoteWebDriver(url, capabilities));
+        slotRelease.set(() -> controller.release(browser, remoteDriver));
+        
+        long waitNanos = controller.getLastWaitNanos();
+        TestContext.current().setGridSlotWait(Duration.ofNanos(waitNanos));
+        if (FrameworkConstants.COMMAND_METRICS_ENABLED) {
+            FrameworkMetrics.record(FrameworkMetric.GRID_SLOT_WAIT, browser, waitNanos);
+        }
+        
         return remoteDriver;
     }
     
@@ -129,14 +183,27 @@ public class BrowserFactory {
     }
     
     public static WebDriver getDriver() {
-        return driver.get();
+        return TestContext.current().getDriver();
     }
     
     public static void quitDriver() {
-        if (driver.get() != null) {
-            driver.get().quit();
-            driver.remove();
+        TestContext context = TestContext.current();
+        if (context.getDriver() != null) {
+            try {
+                context.getDriver().quit();
+            } finally {
+                context.setDriver(null);
+                releaseGridSlot();
+            }
             LoggerUtil.info("Browser closed successfully");
         }
     }
+    
+    private static void releaseGridSlot() {
+        Runnable release = slotRelease.get();
+        if (release != null) {
+            slotRelease.remove();
+            release.run();
+        }
+    }
 }
@@ -0,0 +1,74 @@
+package com.flipkart.automation.drivers;
+
+import com.flipkart.automation.metrics.CommandMetrics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+public class CommandTimingListener implements WebDriverListener {
+
+    // Calls can nest (e.g. a decorated element resolving through the driver), so keep a stack per thread
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+    // Elements remember the locator that found them, so clicks and reads on them are attributed to it.
+    // Weak keys let elements from pages the test has left be collected.
+    private final Map<WebElement, String> elementLocators = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        startTimes.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        String locator = stop(target, method, args);
+        if (!locator.isEmpty()) {
+            remember(result, locator);
+        }
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        stop(target, method, args);
+    }
+
+    private String stop(Object target, Method method, Object[] args) {
+        Long start = startTimes.get().poll();
+        String locator = getLocator(target, args);
+        if (start != null) {
+            CommandMetrics.record(method.getName(), locator, System.nanoTime() - start);
+        }
+        return locator;
+    }
+
+    private String getLocator(Object target, Object[] args) {
+        if (args != null && args.length > 0 && args[0] instanceof By) {
+            return args[0].toString();
+        }
+        if (target instanceof WebElement) {
+            String locator = elementLocators.get(target);
+            return locator != null ? locator : "";
+        }
+        return "";
+    }
+
+    private void remember(Object result, String locator) {
+        if (result instanceof WebElement) {
+            elementLocators.put((WebElement) result, locator);
+        } else if (result instanceof List) {
+            for (Object element : (List<?>) result) {
+                if (element instanceof WebElement) {
+                    elementLocators.put((WebElement) element, locator);
+                }
+            }
+        }
+    }
+}
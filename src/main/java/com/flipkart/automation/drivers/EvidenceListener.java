@@ -0,0 +1,88 @@
+package com.flipkart.automation.drivers;
+
+import com.flipkart.automation.evidence.EvidenceKind;
+import com.flipkart.automation.evidence.FailureEvidence;
+import com.flipkart.automation.utils.LoggerUtil;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+public class EvidenceListener implements WebDriverListener {
+
+    // Snapshots are read through the undecorated driver so they are not recorded as commands
+    private final WebDriver rawDriver;
+
+    public EvidenceListener(WebDriver rawDriver) {
+        this.rawDriver = rawDriver;
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        if (FailureEvidence.isCapturing(EvidenceKind.COMMANDS)) {
+            FailureEvidence.record(EvidenceKind.COMMANDS, describe(target, method, args));
+        }
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        if (FailureEvidence.isCapturing(EvidenceKind.COMMANDS)) {
+            FailureEvidence.record(EvidenceKind.COMMANDS, describe(target, method, args)
+                + " failed: " + e.getTargetException().getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        navigated(url);
+    }
+
+    @Override
+    public void afterTo(WebDriver.Navigation navigation, String url) {
+        navigated(url);
+    }
+
+    @Override
+    public void afterClick(WebElement element) {
+        snapshot();
+    }
+
+    @Override
+    public void afterSubmit(WebElement element) {
+        snapshot();
+    }
+
+    private void navigated(String url) {
+        if (FailureEvidence.isCapturing(EvidenceKind.URLS)) {
+            FailureEvidence.record(EvidenceKind.URLS, url);
+        }
+        snapshot();
+    }
+
+    private void snapshot() {
+        if (!FailureEvidence.isCapturing(EvidenceKind.DOM)) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            String url = rawDriver.getCurrentUrl();
+            String pageSource = rawDriver.getPageSource();
+            FailureEvidence.addOverhead(System.nanoTime() - start);
+            FailureEvidence.recordDom(url, pageSource);
+        } catch (Exception e) {
+            LoggerUtil.debug("DOM snapshot skipped: " + e.getMessage());
+        }
+    }
+
+    // Arguments other than locators are left out so typed values such as passwords never reach disk
+    private static String describe(Object target, Method method, Object[] args) {
+        String name = (target instanceof WebElement ? "element." : "") + method.getName();
+        if (args != null && args.length > 0 && args[0] instanceof By) {
+            return name + " " + args[0];
+        }
+        return name;
+    }
+}
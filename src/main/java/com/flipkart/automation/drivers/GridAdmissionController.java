@@ -0,0 +1,283 @@
+package com.flipkart.automation.drivers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flipkart.automation.utils.LoggerUtil;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+public class GridAdmissionController {
+
+    private final URI statusUri;
+    private final Duration slotTimeout;
+    private final Duration sessionTimeout;
+    private final HttpClient httpClient;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, BrowserSlots> slots = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> lastWaitNanos = ThreadLocal.withInitial(() -> 0L);
+    private final ExecutorService sessionExecutor;
+    private final ScheduledExecutorService refresher;
+
+    public GridAdmissionController(String gridUrl, Duration slotTimeout, Duration sessionTimeout,
+            Duration refreshInterval) {
+        this.statusUri = URI.create(gridUrl.replaceAll("/wd/hub/?$", "").replaceAll("/$", "") + "/status");
+        this.slotTimeout = slotTimeout;
+        this.sessionTimeout = sessionTimeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        this.sessionExecutor = Executors.newCachedThreadPool(daemonThreads("grid-session"));
+        this.refresher = Executors.newSingleThreadScheduledExecutor(daemonThreads("grid-status"));
+
+        long refreshMillis = refreshInterval.toMillis();
+        refresher.scheduleWithFixedDelay(this::refreshSlots, refreshMillis, refreshMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    // Blocks in FIFO order until the grid has a free slot for the browser, then creates the session
+    // off-thread so a session stuck in the hub queue cannot hang the test thread past the timeout.
+    public WebDriver createSession(String browser, Supplier<WebDriver> sessionFactory) {
+        BrowserSlots browserSlots = getSlots(browser);
+        long waitStart = System.nanoTime();
+
+        try {
+            if (!browserSlots.semaphore.tryAcquire(slotTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new RuntimeException("Timed out after " + slotTimeout.getSeconds() +
+                    "s waiting for a free grid slot for " + browser);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a grid slot for " + browser, e);
+        }
+
+        long waitNanos = System.nanoTime() - waitStart;
+        lastWaitNanos.set(waitNanos);
+        LoggerUtil.info("Grid slot acquired for " + browser + " after " +
+            TimeUnit.NANOSECONDS.toMillis(waitNanos) + " ms");
+
+        CompletableFuture<WebDriver> session = CompletableFuture.supplyAsync(sessionFactory, sessionExecutor)
+            .whenComplete((driver, error) -> {
+                if (driver != null) {
+                    browserSlots.sessionCreated(sessionId(driver));
+                }
+            });
+        try {
+            return session.get(sessionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            abandon(browser, session);
+            throw new RuntimeException("Timed out after " + sessionTimeout.getSeconds() +
+                "s creating a grid session for " + browser);
+        } catch (ExecutionException e) {
+            browserSlots.semaphore.release();
+            throw new RuntimeException("Grid session creation failed for " + browser, e.getCause());
+        } catch (InterruptedException e) {
+            abandon(browser, session);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while creating a grid session for " + browser, e);
+        }
+    }
+
+    // The hub may still hand out the session later, give it back as soon as it arrives
+    private void abandon(String browser, CompletableFuture<WebDriver> session) {
+        session.whenComplete((driver, error) -> {
+            if (driver != null) {
+                driver.quit();
+                release(browser, driver);
+            } else {
+                getSlots(browser).semaphore.release();
+            }
+        });
+    }
+
+    public void release(String browser, WebDriver driver) {
+        BrowserSlots browserSlots = slots.get(normalize(browser));
+        if (browserSlots != null) {
+            browserSlots.sessionReleased(sessionId(driver));
+        }
+    }
+
+    public long getLastWaitNanos() {
+        return lastWaitNanos.get();
+    }
+
+    public int getAvailableSlots(String browser) {
+        BrowserSlots browserSlots = slots.get(normalize(browser));
+        return browserSlots == null ? 0 : browserSlots.semaphore.availablePermits();
+    }
+
+    public void shutdown() {
+        refresher.shutdownNow();
+        sessionExecutor.shutdown();
+    }
+
+    private BrowserSlots getSlots(String browser) {
+        return slots.computeIfAbsent(normalize(browser), name -> {
+            SlotCount count = queryStatus().getOrDefault(name, new SlotCount());
+            if (count.total == 0) {
+                throw new IllegalStateException("No grid node at " + statusUri + " offers browser: " + browser);
+            }
+            LoggerUtil.info("Grid admission for " + name + ": " + count.free + " free of " +
+                count.total + " slots");
+            return new BrowserSlots(count.free);
+        });
+    }
+
+    // Keeps the permits in step with the grid: its free slots plus the busy slots running our sessions.
+    // A session still starting or waiting in the hub queue shows as a free slot, so it is already in
+    // the free count and holds one of those permits; it only counts as ours once its id is busy.
+    private void refreshSlots() {
+        if (slots.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, SlotCount> counts = queryStatus();
+            for (Map.Entry<String, BrowserSlots> entry : slots.entrySet()) {
+                SlotCount count = counts.getOrDefault(entry.getKey(), new SlotCount());
+                entry.getValue().resize(entry.getKey(), count.free, count.sessions);
+            }
+        } catch (RuntimeException e) {
+            LoggerUtil.warn("Grid status refresh failed: " + e.getMessage());
+        }
+    }
+
+    private Map<String, SlotCount> queryStatus() {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(statusUri)
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new RuntimeException("Grid status returned HTTP " + response.statusCode());
+            }
+            return parseStatus(mapper.readTree(response.body()));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to query grid status at " + statusUri, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while querying grid status", e);
+        }
+    }
+
+    private static Map<String, SlotCount> parseStatus(JsonNode status) {
+        Map<String, SlotCount> counts = new HashMap<>();
+        for (JsonNode node : status.path("value").path("nodes")) {
+            if (!"UP".equalsIgnoreCase(node.path("availability").asText())) {
+                continue;
+            }
+            for (JsonNode slot : node.path("slots")) {
+                String browserName = normalize(slot.path("stereotype").path("browserName").asText());
+                SlotCount count = counts.computeIfAbsent(browserName, name -> new SlotCount());
+                count.total++;
+                JsonNode session = slot.path("session");
+                if (session.isMissingNode() || session.isNull()) {
+                    count.free++;
+                } else {
+                    count.sessions.add(session.path("sessionId").asText());
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static String normalize(String browser) {
+        String name = browser.toLowerCase();
+        return "microsoftedge".equals(name) ? "edge" : name;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static String sessionId(WebDriver driver) {
+        if (driver instanceof RemoteWebDriver && ((RemoteWebDriver) driver).getSessionId() != null) {
+            return ((RemoteWebDriver) driver).getSessionId().toString();
+        }
+        return null;
+    }
+
+    private static class SlotCount {
+        int total;
+        int free;
+        final Set<String> sessions = new HashSet<>();
+    }
+
+    private static class SlotSemaphore extends Semaphore {
+
+        SlotSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        void reduce(int reduction) {
+            reducePermits(reduction);
+        }
+    }
+
+    // Session ids change under the same lock as resize(), so a refresh never sees a session in between
+    private static class BrowserSlots {
+
+        private final SlotSemaphore semaphore;
+        private final Set<String> heldSessions = new HashSet<>();
+        private int limit;
+
+        BrowserSlots(int free) {
+            this.semaphore = new SlotSemaphore(free);
+            this.limit = free;
+        }
+
+        synchronized void sessionCreated(String sessionId) {
+            if (sessionId != null) {
+                heldSessions.add(sessionId);
+            }
+        }
+
+        synchronized void sessionReleased(String sessionId) {
+            heldSessions.remove(sessionId);
+            semaphore.release();
+        }
+
+        synchronized void resize(String browser, int free, Set<String> busySessions) {
+            int ours = 0;
+            for (String sessionId : heldSessions) {
+                if (busySessions.contains(sessionId)) {
+                    ours++;
+                }
+            }
+            int target = free + ours;
+            if (target == limit) {
+                return;
+            }
+            LoggerUtil.info("Grid admission for " + browser + ": " + limit + " -> " + target + " slots");
+            if (target > limit) {
+                semaphore.release(target - limit);
+            } else {
+                semaphore.reduce(limit - target);
+            }
+            limit = target;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.flipkart.automation.drivers;
+
+import com.flipkart.automation.constants.FrameworkConstants;
+import org.htmlunit.BrowserVersion;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+public class LightweightHtmlDriver extends HtmlUnitDriver {
+    
+    private static final String JS_UNSUPPORTED_MESSAGE = 
+        "JavaScript is not available on the lightweight '" + FrameworkConstants.LIGHTWEIGHT_BROWSER + 
+        "' tier. Remove the '" + FrameworkConstants.LIGHTWEIGHT_GROUP + 
+        "' group or @Lightweight from the test so it runs on a full browser.";
+    
+    public LightweightHtmlDriver() {
+        super(BrowserVersion.CHROME, false);
+    }
+    
+    @Override
+    public Object executeScript(String script, Object... args) {
+        throw new UnsupportedOperationException(JS_UNSUPPORTED_MESSAGE);
+    }
+    
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        throw new UnsupportedOperationException(JS_UNSUPPORTED_MESSAGE);
+    }
+}
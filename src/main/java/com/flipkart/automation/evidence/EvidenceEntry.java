@@ -0,0 +1,36 @@
+package com.flipkart.automation.evidence;
+
+public class EvidenceEntry {
+    
+    private final long timestamp;
+    private final EvidenceKind kind;
+    private final String detail;
+    private final byte[] compressedDom;
+    
+    public EvidenceEntry(long timestamp, EvidenceKind kind, String detail) {
+        this(timestamp, kind, detail, null);
+    }
+    
+    public EvidenceEntry(long timestamp, EvidenceKind kind, String detail, byte[] compressedDom) {
+        this.timestamp = timestamp;
+        this.kind = kind;
+        this.detail = detail;
+        this.compressedDom = compressedDom;
+    }
+    
+    public long getTimestamp() {
+        return timestamp;
+    }
+    
+    public EvidenceKind getKind() {
+        return kind;
+    }
+    
+    public String getDetail() {
+        return detail;
+    }
+    
+    public byte[] getCompressedDom() {
+        return compressedDom;
+    }
+}
@@ -0,0 +1,8 @@
+package com.flipkart.automation.evidence;
+
+public enum EvidenceKind {
+    COMMANDS,
+    URLS,
+    CONSOLE,
+    DOM
+}
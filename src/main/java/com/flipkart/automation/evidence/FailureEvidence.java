@@ -0,0 +1,203 @@
+package com.flipkart.automation.evidence;
+
+import com.flipkart.automation.constants.FrameworkConstants;
+import com.flipkart.automation.context.TestContext;
+import com.flipkart.automation.metrics.FrameworkMetric;
+import com.flipkart.automation.metrics.FrameworkMetrics;
+import com.flipkart.automation.utils.LoggerUtil;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Keeps the last few WebDriver steps of the running test in memory and only writes them out
+// when the test fails. Console logs are pulled from the browser at failure time since the
+// browser already buffers them; they get their own buffer and are merged in by timestamp.
+public class FailureEvidence {
+
+    private static final Set<EvidenceKind> captureKinds = parseKinds(FrameworkConstants.EVIDENCE_CAPTURE);
+    private static final ThreadLocal<Evidence> evidence = ThreadLocal.withInitial(Evidence::new);
+
+    public static boolean isEnabled() {
+        return FrameworkConstants.EVIDENCE_BUFFER_SIZE > 0 && !captureKinds.isEmpty();
+    }
+
+    public static boolean isCapturing(EvidenceKind kind) {
+        return isEnabled() && captureKinds.contains(kind);
+    }
+
+    public static void record(EvidenceKind kind, String detail) {
+        long start = System.nanoTime();
+        Evidence current = evidence.get();
+        current.events.add(new EvidenceEntry(System.currentTimeMillis(), kind, detail));
+        current.overheadNanos += System.nanoTime() - start;
+    }
+
+    public static void recordDom(String url, String pageSource) {
+        long start = System.nanoTime();
+        Evidence current = evidence.get();
+        EvidenceEntry snapshot = new EvidenceEntry(System.currentTimeMillis(), EvidenceKind.DOM, url, gzip(pageSource));
+        current.snapshots.add(snapshot);
+        current.events.add(new EvidenceEntry(snapshot.getTimestamp(), EvidenceKind.DOM,
+            "snapshot " + current.snapshotCount++ + " of " + url));
+        current.overheadNanos += System.nanoTime() - start;
+    }
+
+    // Time spent in the browser taking a snapshot counts as evidence overhead too
+    public static void addOverhead(long nanos) {
+        evidence.get().overheadNanos += nanos;
+    }
+
+    public static void start() {
+        evidence.remove();
+    }
+
+    public static void discard() {
+        finish();
+    }
+
+    public static String persist(String testName, WebDriver driver) {
+        if (isCapturing(EvidenceKind.CONSOLE) && driver != null) {
+            captureConsoleLogs(driver);
+        }
+        Evidence current = finish();
+        if (current.events.size() == 0 && current.console.size() == 0) {
+            return null;
+        }
+
+        // Data provider rows and retries share the name and can fail within the same second
+        String timestamp = new SimpleDateFormat("yyyy.MM.dd.HH.mm.ss").format(new Date());
+        Path dir = Paths.get(FrameworkConstants.EVIDENCE_PATH,
+            testName + "_" + timestamp + "_" + TestContext.current().getId());
+        try {
+            Files.createDirectories(dir);
+            Files.write(dir.resolve("timeline.log"), toTimeline(merge(current.events.toList(), current.console.toList()))
+                .getBytes(StandardCharsets.UTF_8));
+
+            List<EvidenceEntry> snapshots = current.snapshots.toList();
+            for (int i = 0; i < snapshots.size(); i++) {
+                try (OutputStream out = Files.newOutputStream(dir.resolve("dom-" + i + ".html"))) {
+                    out.write(gunzip(snapshots.get(i).getCompressedDom()));
+                }
+            }
+            LoggerUtil.info("Failure evidence saved: " + dir);
+            return dir.toString();
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to save failure evidence: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public static String readTimeline(String evidenceDir) {
+        try {
+            return new String(Files.readAllBytes(Paths.get(evidenceDir, "timeline.log")), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read failure evidence: " + evidenceDir, e);
+        }
+    }
+
+    private static Evidence finish() {
+        Evidence current = evidence.get();
+        evidence.remove();
+        if (FrameworkConstants.COMMAND_METRICS_ENABLED && current.overheadNanos > 0) {
+            FrameworkMetrics.record(FrameworkMetric.EVIDENCE_OVERHEAD, null, current.overheadNanos);
+        }
+        return current;
+    }
+
+    // Read through the undecorated driver so the log fetch does not show up as a test command
+    private static void captureConsoleLogs(WebDriver driver) {
+        long start = System.nanoTime();
+        WebDriver rawDriver = driver instanceof WrapsDriver ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+        Evidence current = evidence.get();
+        try {
+            for (LogEntry entry : rawDriver.manage().logs().get(LogType.BROWSER)) {
+                current.console.add(new EvidenceEntry(entry.getTimestamp(), EvidenceKind.CONSOLE,
+                    entry.getLevel() + " " + entry.getMessage()));
+            }
+        } catch (Exception e) {
+            LoggerUtil.debug("Browser console logs not available: " + e.getMessage());
+        }
+        current.overheadNanos += System.nanoTime() - start;
+    }
+
+    // Both lists are already in time order, so a single merge pass keeps the timeline sorted
+    private static List<EvidenceEntry> merge(List<EvidenceEntry> events, List<EvidenceEntry> console) {
+        List<EvidenceEntry> merged = new ArrayList<>(events.size() + console.size());
+        int e = 0;
+        int c = 0;
+        while (e < events.size() || c < console.size()) {
+            if (c == console.size()
+                    || (e < events.size() && events.get(e).getTimestamp() <= console.get(c).getTimestamp())) {
+                merged.add(events.get(e++));
+            } else {
+                merged.add(console.get(c++));
+            }
+        }
+        return merged;
+    }
+
+    private static String toTimeline(List<EvidenceEntry> entries) {
+        SimpleDateFormat format = new SimpleDateFormat("HH:mm:ss.SSS");
+        StringBuilder sb = new StringBuilder();
+        for (EvidenceEntry entry : entries) {
+            sb.append(format.format(new Date(entry.getTimestamp())))
+                .append(' ').append(String.format("%-8s", entry.getKind()))
+                .append(' ').append(entry.getDetail()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static byte[] gzip(String text) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static Set<EvidenceKind> parseKinds(String config) {
+        Set<EvidenceKind> kinds = EnumSet.noneOf(EvidenceKind.class);
+        for (String kind : config.split(",")) {
+            if (!kind.trim().isEmpty()) {
+                kinds.add(EvidenceKind.valueOf(kind.trim().toUpperCase()));
+            }
+        }
+        return kinds;
+    }
+
+    private static class Evidence {
+        private final RingBuffer<EvidenceEntry> events = new RingBuffer<>(FrameworkConstants.EVIDENCE_BUFFER_SIZE);
+        private final RingBuffer<EvidenceEntry> snapshots = new RingBuffer<>(FrameworkConstants.EVIDENCE_DOM_SNAPSHOTS);
+        private final RingBuffer<EvidenceEntry> console = new RingBuffer<>(FrameworkConstants.EVIDENCE_CONSOLE_ENTRIES);
+        private long overheadNanos;
+        private int snapshotCount;
+    }
+}
@@ -0,0 +1,41 @@
+package com.flipkart.automation.evidence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Fixed-size buffer that overwrites its oldest item; owned by a single thread so it is not synchronized
+public class RingBuffer<T> {
+    
+    private final Object[] items;
+    private int next;
+    private int size;
+    
+    public RingBuffer(int capacity) {
+        this.items = new Object[capacity];
+    }
+    
+    public void add(T item) {
+        if (items.length == 0) {
+            return;
+        }
+        items[next] = item;
+        next = (next + 1) % items.length;
+        if (size < items.length) {
+            size++;
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size);
+        int start = (next - size + items.length) % Math.max(items.length, 1);
+        for (int i = 0; i < size; i++) {
+            list.add((T) items[(start + i) % items.length]);
+        }
+        return list;
+    }
+    
+    public int size() {
+        return size;
+    }
+}
@@ -1,35 +1,79 @@
 package com.flipkart.automation.listeners;
 
+import com.flipkart.automation.api.recording.InteractionStore;
+import com.flipkart.automation.constants.FrameworkConstants;
+import com.flipkart.automation.context.TestContext;
+import com.flipkart.automation.drivers.BrowserFactory;
+import com.flipkart.automation.evidence.FailureEvidence;
+import com.flipkart.automation.metrics.CommandKey;
+import com.flipkart.automation.metrics.CommandMetrics;
+import com.flipkart.automation.metrics.FrameworkMetrics;
+import com.flipkart.automation.metrics.LatencyHistogram;
 import com.flipkart.automation.reports.ExtentReportManager;
+import com.flipkart.automation.reports.MetricsReportWriter;
 import com.flipkart.automation.utils.ScreenshotUtil;
 import com.flipkart.automation.utils.LoggerUtil;
 import org.testng.*;
 
-public class TestListener implements ITestListener, ISuiteListener {
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+
+public class TestListener implements ITestListener, ISuiteListener, IInvokedMethodListener {
     
     @Override
     public void onStart(ISuite suite) {
         LoggerUtil.info("Test Suite Started: " + suite.getName());
         ExtentReportManager.initReport();
+        CommandMetrics.reset();
+        FrameworkMetrics.reset();
     }
     
     @Override
     public void onFinish(ISuite suite) {
         LoggerUtil.info("Test Suite Finished: " + suite.getName());
+        if (FrameworkConstants.COMMAND_METRICS_ENABLED) {
+            MetricsReportWriter.writeSuiteMetrics(suite.getName());
+        }
+        InteractionStore.compactAll();
         ExtentReportManager.flushReport();
     }
     
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        if (method.isTestMethod()) {
+            TestContext.begin(result).setTestName(result.getMethod().getMethodName());
+            return;
+        }
+        if (!method.getTestMethod().isBeforeMethodConfiguration()) {
+            return;
+        }
+        TestContext.begin();
+        if (FrameworkConstants.COMMAND_METRICS_ENABLED) {
+            CommandMetrics.startTest();
+        }
+        if (FailureEvidence.isEnabled()) {
+            FailureEvidence.start();
+        }
+    }
+    
     @Override
     public void onTestStart(ITestResult result) {
+        TestContext.begin(result).setTestName(result.getMethod().getMethodName());
         LoggerUtil.info("Test Started: " + result.getMethod().getMethodName());
         ExtentReportManager.createTest(result.getMethod().getMethodName(), 
             result.getMethod().getDescription());
+        if (FrameworkConstants.COMMAND_METRICS_ENABLED) {
+            CommandMetrics.startTest();
+        }
     }
     
     @Override
     public void onTestSuccess(ITestResult result) {
         LoggerUtil.info("Test Passed: " + result.getMethod().getMethodName());
         ExtentReportManager.logPass("Test Passed: " + result.getMethod().getMethodName());
+        FailureEvidence.discard();
+        attachCommandMetrics(result);
     }
     
     @Override
@@ -46,11 +90,58 @@ public class TestListener implements ITestListener, ISuiteListener {
         if (screenshotPath != null) {
             ExtentReportManager.getTest().addScreenCaptureFromPath(screenshotPath);
         }
+        attachFailureEvidence(result);
+        attachCommandMetrics(result);
     }
     
     @Override
     public void onTestSkipped(ITestResult result) {
+        // Tests skipped by a failed configuration never reach onTestStart
+        TestContext.begin(result);
         LoggerUtil.info("Test Skipped: " + result.getMethod().getMethodName());
         ExtentReportManager.logSkip("Test Skipped: " + result.getMethod().getMethodName());
+        FailureEvidence.discard();
+        attachCommandMetrics(result);
+    }
+    
+    private void attachFailureEvidence(ITestResult result) {
+        if (!FailureEvidence.isEnabled()) {
+            return;
+        }
+        
+        String evidenceDir = FailureEvidence.persist(result.getMethod().getMethodName(), BrowserFactory.getDriver());
+        if (evidenceDir != null && ExtentReportManager.getTest() != null) {
+            ExtentReportManager.logInfo("Failure evidence: " + evidenceDir);
+            ExtentReportManager.logCodeBlock(FailureEvidence.readTimeline(evidenceDir));
+        }
+    }
+    
+    private void attachCommandMetrics(ITestResult result) {
+        if (!FrameworkConstants.COMMAND_METRICS_ENABLED) {
+            return;
+        }
+        
+        // Factory instances and retries share the method and parameters, the context id tells them apart
+        String testId = result.getTestContext().getName() + ":" + result.getMethod().getQualifiedName();
+        if (result.getParameters().length > 0) {
+            testId += Arrays.toString(result.getParameters());
+        }
+        TestContext context = TestContext.begin(result);
+        testId += "#" + context.getId();
+        
+        Duration slotWait = context.getGridSlotWait();
+        if (slotWait != null) {
+            CommandMetrics.recordSlotWait(testId, slotWait.toNanos());
+        }
+        Map<CommandKey, LatencyHistogram> histograms = CommandMetrics.endTest(testId);
+        if (ExtentReportManager.getTest() == null) {
+            return;
+        }
+        if (slotWait != null) {
+            ExtentReportManager.logInfo("Grid slot wait: " + slotWait.toMillis() + " ms");
+        }
+        if (!histograms.isEmpty()) {
+            ExtentReportManager.logTable(MetricsReportWriter.toSummaryTable(histograms));
+        }
     }
 }
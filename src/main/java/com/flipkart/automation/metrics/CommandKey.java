@@ -0,0 +1,44 @@
+package com.flipkart.automation.metrics;
+
+import java.util.Objects;
+
+public final class CommandKey {
+
+    private final String command;
+    private final String locator;
+
+    public CommandKey(String command, String locator) {
+        this.command = command;
+        this.locator = locator;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public String getLocator() {
+        return locator;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CommandKey)) {
+            return false;
+        }
+        CommandKey other = (CommandKey) o;
+        return command.equals(other.command) && locator.equals(other.locator);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(command, locator);
+    }
+
+    @Override
+    public String toString() {
+        return locator.isEmpty() ? command : command + " [" + locator + "]";
+    }
+}
@@ -0,0 +1,70 @@
+package com.flipkart.automation.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CommandMetrics {
+
+    private static final Map<CommandKey, LatencyHistogram> suiteHistograms = new ConcurrentHashMap<>();
+    private static final Map<String, Map<CommandKey, LatencyHistogram>> testHistograms =
+        Collections.synchronizedMap(new LinkedHashMap<>());
+    private static final Map<String, Long> testSlotWaits = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<CommandKey, LatencyHistogram>> currentTest = new ThreadLocal<>();
+
+    public static void record(String command, String locator, long nanos) {
+        CommandKey key = new CommandKey(command, locator);
+        suiteHistograms.computeIfAbsent(key, k -> new LatencyHistogram()).record(nanos);
+
+        Map<CommandKey, LatencyHistogram> test = currentTest.get();
+        if (test != null) {
+            test.computeIfAbsent(key, k -> new LatencyHistogram()).record(nanos);
+        }
+    }
+
+    // Starts at @BeforeMethod so setup commands are attributed to the test; no-op if already started
+    public static void startTest() {
+        if (currentTest.get() == null) {
+            currentTest.set(new HashMap<>());
+        }
+    }
+
+    public static Map<CommandKey, LatencyHistogram> endTest(String testId) {
+        Map<CommandKey, LatencyHistogram> test = currentTest.get();
+        currentTest.remove();
+        if (test == null) {
+            return Collections.emptyMap();
+        }
+        if (!test.isEmpty() || testSlotWaits.containsKey(testId)) {
+            testHistograms.put(testId, test);
+        }
+        return test;
+    }
+
+    // Call before endTest() so a test with a grid session is kept even if it ran no commands
+    public static void recordSlotWait(String testId, long nanos) {
+        testSlotWaits.put(testId, nanos);
+    }
+
+    public static Long getSlotWaitNanos(String testId) {
+        return testSlotWaits.get(testId);
+    }
+
+    public static Map<CommandKey, LatencyHistogram> getSuiteHistograms() {
+        return suiteHistograms;
+    }
+
+    public static Map<String, Map<CommandKey, LatencyHistogram>> getTestHistograms() {
+        synchronized (testHistograms) {
+            return new LinkedHashMap<>(testHistograms);
+        }
+    }
+
+    public static void reset() {
+        suiteHistograms.clear();
+        testHistograms.clear();
+        testSlotWaits.clear();
+    }
+}
@@ -0,0 +1,30 @@
+package com.flipkart.automation.metrics;
+
+// Timings of framework work, exported apart from the WebDriver command histogram
+public enum FrameworkMetric {
+
+    GRID_SLOT_WAIT("grid_slot_wait_seconds", "browser", "Time spent waiting for a free Selenium Grid slot"),
+    EVIDENCE_OVERHEAD("failure_evidence_overhead_seconds", null, "Time spent capturing failure evidence per test");
+
+    private final String name;
+    private final String labelName;
+    private final String help;
+
+    FrameworkMetric(String name, String labelName, String help) {
+        this.name = name;
+        this.labelName = labelName;
+        this.help = help;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLabelName() {
+        return labelName;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+}
@@ -0,0 +1,23 @@
+package com.flipkart.automation.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FrameworkMetrics {
+
+    private static final Map<FrameworkMetric, Map<String, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+
+    public static void record(FrameworkMetric metric, String labelValue, long nanos) {
+        histograms.computeIfAbsent(metric, m -> new ConcurrentHashMap<>())
+            .computeIfAbsent(labelValue == null ? "" : labelValue, v -> new LatencyHistogram())
+            .record(nanos);
+    }
+
+    public static Map<FrameworkMetric, Map<String, LatencyHistogram>> getHistograms() {
+        return histograms;
+    }
+
+    public static void reset() {
+        histograms.clear();
+    }
+}
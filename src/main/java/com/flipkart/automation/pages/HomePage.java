@@ -5,31 +5,30 @@ import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import com.flipkart.automation.utils.WaitUtil;
 
 public class HomePage extends BasePage {
     
     @FindBy(xpath = "//input[@name='q' or @placeholder='Search for Products, Brands and More']")
-    private WebElement searchBox;
+    WebElement searchBox;
     
     @FindBy(xpath = "//button[@type='submit' or contains(@class,'search')]")
-    private WebElement searchButton;
+    WebElement searchButton;
     
     @FindBy(xpath = "//a[contains(text(),'Login')]")
-    private WebElement loginLink;
+    WebElement loginLink;
     
     @FindBy(xpath = "//button[contains(@class,'close') or text()='✕']")
-    private WebElement closePopup;
+    WebElement closePopup;
     
     public HomePage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        HomePageBindings.bind(this, driver);
     }
     
     public void closeLoginPopupIfPresent() {
         try {
-            if (WaitUtil.waitForElementToBeVisible(closePopup, 5)) {
+            if (WaitUtil.waitForElementToBeVisible(driver, closePopup, 5)) {
                 closePopup.click();
             }
         } catch (Exception e) {
@@ -39,7 +38,7 @@ public class HomePage extends BasePage {
     
     public SearchResultsPage searchProduct(String productName) {
         closeLoginPopupIfPresent();
-        WaitUtil.waitForElementToBeClickable(searchBox);
+        WaitUtil.waitForElementToBeClickable(driver, searchBox);
         searchBox.clear();
         searchBox.sendKeys(productName);
         searchBox.sendKeys(Keys.ENTER);
@@ -47,6 +46,6 @@ public class HomePage extends BasePage {
     }
     
     public boolean isHomePageDisplayed() {
-        return WaitUtil.waitForElementToBeVisible(searchBox, 10);
+        return WaitUtil.waitForElementToBeVisible(driver, searchBox, 10);
     }
 }
@@ -3,9 +3,11 @@ package com.flipkart.automation.reports;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 import com.flipkart.automation.constants.FrameworkConstants;
+import com.flipkart.automation.context.TestContext;
 
 import java.io.File;
 import java.text.SimpleDateFormat;
@@ -13,10 +15,9 @@ import java.util.Date;
 
 public class ExtentReportManager {
     
-    private static ExtentReports extent;
-    private static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    private static volatile ExtentReports extent;
     
-    public static void initReport() {
+    public static synchronized void initReport() {
         if (extent == null) {
             String timestamp = new SimpleDateFormat("yyyy.MM.dd.HH.mm.ss").format(new Date());
             String reportPath = FrameworkConstants.EXTENT_REPORT_PATH + 
@@ -44,17 +45,19 @@ public class ExtentReportManager {
     }
     
     public static void createTest(String testName) {
-        ExtentTest extentTest = extent.createTest(testName);
-        test.set(extentTest);
+        createTest(testName, null);
     }
     
     public static void createTest(String testName, String description) {
-        ExtentTest extentTest = extent.createTest(testName, description);
-        test.set(extentTest);
+        ExtentTest extentTest;
+        synchronized (ExtentReportManager.class) {
+            extentTest = extent.createTest(testName, description);
+        }
+        TestContext.current().setReportNode(extentTest);
     }
     
     public static ExtentTest getTest() {
-        return test.get();
+        return TestContext.current().getReportNode();
     }
     
     public static void logInfo(String message) {
@@ -73,7 +76,15 @@ public class ExtentReportManager {
         getTest().log(Status.SKIP, message);
     }
     
-    public static void flushReport() {
+    public static void logTable(String[][] data) {
+        getTest().log(Status.INFO, MarkupHelper.createTable(data));
+    }
+    
+    public static void logCodeBlock(String code) {
+        getTest().log(Status.INFO, MarkupHelper.createCodeBlock(code));
+    }
+    
+    public static synchronized void flushReport() {
         if (extent != null) {
             extent.flush();
         }
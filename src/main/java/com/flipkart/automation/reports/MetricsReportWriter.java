@@ -0,0 +1,177 @@
+package com.flipkart.automation.reports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.flipkart.automation.constants.FrameworkConstants;
+import com.flipkart.automation.metrics.CommandKey;
+import com.flipkart.automation.metrics.CommandMetrics;
+import com.flipkart.automation.metrics.FrameworkMetric;
+import com.flipkart.automation.metrics.FrameworkMetrics;
+import com.flipkart.automation.metrics.LatencyHistogram;
+import com.flipkart.automation.utils.LoggerUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class MetricsReportWriter {
+
+    private static final String METRIC_NAME = "webdriver_command_duration_seconds";
+    private static final String[] SUMMARY_HEADER = {"Command", "Locator", "Count", "Total ms", "Mean ms", "p95 ms", "Max ms"};
+
+    public static void writeSuiteMetrics(String suiteName) {
+        File metricsDir = new File(FrameworkConstants.METRICS_PATH);
+        if (!metricsDir.exists()) {
+            metricsDir.mkdirs();
+        }
+
+        try {
+            Files.write(Paths.get(FrameworkConstants.METRICS_PATH, "webdriver-metrics.prom"),
+                toPrometheus(CommandMetrics.getSuiteHistograms()).getBytes(StandardCharsets.UTF_8));
+
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("suite", suiteName);
+            json.put("suiteCommands", toJson(CommandMetrics.getSuiteHistograms()));
+            Map<String, Object> tests = new LinkedHashMap<>();
+            for (Map.Entry<String, Map<CommandKey, LatencyHistogram>> entry
+                    : CommandMetrics.getTestHistograms().entrySet()) {
+                Map<String, Object> test = new LinkedHashMap<>();
+                Long slotWaitNanos = CommandMetrics.getSlotWaitNanos(entry.getKey());
+                if (slotWaitNanos != null) {
+                    test.put("gridSlotWaitMs", slotWaitNanos / 1_000_000.0);
+                }
+                test.put("commands", toJson(entry.getValue()));
+                tests.put(entry.getKey(), test);
+            }
+            json.put("tests", tests);
+            json.put("framework", toFrameworkJson());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(new File(FrameworkConstants.METRICS_PATH, "webdriver-metrics.json"), json);
+
+            LoggerUtil.info("WebDriver command metrics written to: " + FrameworkConstants.METRICS_PATH);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to write WebDriver command metrics: " + e.getMessage());
+        }
+    }
+
+    public static String[][] toSummaryTable(Map<CommandKey, LatencyHistogram> histograms) {
+        List<Map.Entry<CommandKey, LatencyHistogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort((a, b) -> Double.compare(b.getValue().getSumMillis(), a.getValue().getSumMillis()));
+
+        String[][] table = new String[entries.size() + 1][];
+        table[0] = SUMMARY_HEADER;
+        for (int i = 0; i < entries.size(); i++) {
+            CommandKey key = entries.get(i).getKey();
+            LatencyHistogram histogram = entries.get(i).getValue();
+            table[i + 1] = new String[] {
+                key.getCommand(),
+                key.getLocator(),
+                String.valueOf(histogram.getCount()),
+                format(histogram.getSumMillis()),
+                format(histogram.getMeanMillis()),
+                format(histogram.getPercentileMillis(0.95)),
+                format(histogram.getMaxMillis())
+            };
+        }
+        return table;
+    }
+
+    private static String toPrometheus(Map<CommandKey, LatencyHistogram> histograms) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# HELP ").append(METRIC_NAME).append(" WebDriver command latency by command and locator\n");
+        sb.append("# TYPE ").append(METRIC_NAME).append(" histogram\n");
+
+        for (Map.Entry<CommandKey, LatencyHistogram> entry : histograms.entrySet()) {
+            String labels = "command=\"" + escapeLabel(entry.getKey().getCommand())
+                + "\",locator=\"" + escapeLabel(entry.getKey().getLocator()) + "\"";
+            appendHistogram(sb, METRIC_NAME, labels, entry.getValue());
+        }
+
+        for (Map.Entry<FrameworkMetric, Map<String, LatencyHistogram>> metric
+                : FrameworkMetrics.getHistograms().entrySet()) {
+            String name = metric.getKey().getName();
+            sb.append("# HELP ").append(name).append(' ').append(metric.getKey().getHelp()).append('\n');
+            sb.append("# TYPE ").append(name).append(" histogram\n");
+            for (Map.Entry<String, LatencyHistogram> entry : metric.getValue().entrySet()) {
+                String labels = metric.getKey().getLabelName() == null ? ""
+                    : metric.getKey().getLabelName() + "=\"" + escapeLabel(entry.getKey()) + "\"";
+                appendHistogram(sb, name, labels, entry.getValue());
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendHistogram(StringBuilder sb, String name, String labels, LatencyHistogram histogram) {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        String suffix = labels.isEmpty() ? "" : "{" + labels + "}";
+        long[] cumulative = histogram.getCumulativeBucketCounts();
+
+        for (int i = 0; i < LatencyHistogram.BUCKET_BOUNDS_MS.length; i++) {
+            sb.append(name).append("_bucket{").append(prefix)
+                .append("le=\"").append(LatencyHistogram.BUCKET_BOUNDS_MS[i] / 1000.0).append("\"} ")
+                .append(cumulative[i]).append('\n');
+        }
+        sb.append(name).append("_bucket{").append(prefix).append("le=\"+Inf\"} ")
+            .append(histogram.getCount()).append('\n');
+        sb.append(name).append("_sum").append(suffix).append(' ')
+            .append(histogram.getSumMillis() / 1000.0).append('\n');
+        sb.append(name).append("_count").append(suffix).append(' ')
+            .append(histogram.getCount()).append('\n');
+    }
+
+    private static Map<String, Object> toFrameworkJson() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        for (Map.Entry<FrameworkMetric, Map<String, LatencyHistogram>> metric
+                : FrameworkMetrics.getHistograms().entrySet()) {
+            List<Map<String, Object>> series = new ArrayList<>();
+            for (Map.Entry<String, LatencyHistogram> entry : metric.getValue().entrySet()) {
+                Map<String, Object> values = new LinkedHashMap<>();
+                if (metric.getKey().getLabelName() != null) {
+                    values.put(metric.getKey().getLabelName(), entry.getKey());
+                }
+                values.putAll(toJson(entry.getValue()));
+                series.add(values);
+            }
+            metrics.put(metric.getKey().getName(), series);
+        }
+        return metrics;
+    }
+
+    private static List<Map<String, Object>> toJson(Map<CommandKey, LatencyHistogram> histograms) {
+        List<Map<String, Object>> commands = new ArrayList<>();
+        for (Map.Entry<CommandKey, LatencyHistogram> entry : histograms.entrySet()) {
+            Map<String, Object> command = new LinkedHashMap<>();
+            command.put("command", entry.getKey().getCommand());
+            command.put("locator", entry.getKey().getLocator());
+            command.putAll(toJson(entry.getValue()));
+            commands.add(command);
+        }
+        return commands;
+    }
+
+    private static Map<String, Object> toJson(LatencyHistogram histogram) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", histogram.getCount());
+        values.put("totalMs", histogram.getSumMillis());
+        values.put("meanMs", histogram.getMeanMillis());
+        values.put("p50Ms", histogram.getPercentileMillis(0.50));
+        values.put("p95Ms", histogram.getPercentileMillis(0.95));
+        values.put("maxMs", histogram.getMaxMillis());
+        return values;
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.1f", millis);
+    }
+}
@@ -22,6 +22,11 @@ public class ScreenshotUtil {
                 return null;
             }
             
+            if (!(driver instanceof TakesScreenshot)) {
+                LoggerUtil.warn("Driver does not support screenshots, skipping capture");
+                return null;
+            }
+            
             String timestamp = new SimpleDateFormat("yyyy.MM.dd.HH.mm.ss").format(new Date());
             String screenshotName = testName + "_" + timestamp + ".png";
             String screenshotPath = FrameworkConstants.SCREENSHOT_PATH + screenshotName;
@@ -1,6 +1,7 @@
 package com.flipkart.automation.utils;
 
-import com.flipkart.automation.constants.FrameworkConstants;
+import com.flipkart.automation.context.TestContext;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -8,43 +9,36 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 import java.util.List;
 
+// Pages pass their own driver; only a timeout counts as "not yet", anything else is a real error
 public class WaitUtil {
     
-    private static WebDriver driver;
-    
-    public WaitUtil(WebDriver driver) {
-        this.driver = driver;
-    }
-    
-    public static boolean waitForElementToBeVisible(WebElement element, int seconds) {
+    public static boolean waitForElementToBeVisible(WebDriver driver, WebElement element, int seconds) {
         try {
-            WebDriver driver = com.flipkart.automation.drivers.BrowserFactory.getDriver();
             new WebDriverWait(driver, Duration.ofSeconds(seconds))
                 .until(ExpectedConditions.visibilityOf(element));
             return true;
-        } catch (Exception e) {
+        } catch (TimeoutException e) {
             return false;
         }
     }
     
-    public static boolean waitForElementToBeClickable(WebElement element) {
+    public static boolean waitForElementToBeClickable(WebDriver driver, WebElement element) {
+        Duration timeout = TestContext.current().getExplicitWait();
         try {
-            WebDriver driver = com.flipkart.automation.drivers.BrowserFactory.getDriver();
-            new WebDriverWait(driver, Duration.ofSeconds(FrameworkConstants.EXPLICIT_WAIT_TIMEOUT))
+            new WebDriverWait(driver, timeout)
                 .until(ExpectedConditions.elementToBeClickable(element));
             return true;
-        } catch (Exception e) {
+        } catch (TimeoutException e) {
             return false;
         }
     }
     
-    public static boolean waitForElementsToBeVisible(List<WebElement> elements, int seconds) {
+    public static boolean waitForElementsToBeVisible(WebDriver driver, List<WebElement> elements, int seconds) {
         try {
-            WebDriver driver = com.flipkart.automation.drivers.BrowserFactory.getDriver();
             new WebDriverWait(driver, Duration.ofSeconds(seconds))
                 .until(ExpectedConditions.visibilityOfAllElements(elements));
             return true;
-        } catch (Exception e) {
+        } catch (TimeoutException e) {
             return false;
         }
     }
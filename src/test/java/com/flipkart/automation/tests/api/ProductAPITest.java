@@ -1,9 +1,9 @@
 package com.flipkart.automation.tests.api;
 
 import com.flipkart.automation.api.client.RestClient;
+import com.flipkart.automation.context.TestContext;
 import io.restassured.response.Response;
 import org.testng.Assert;
-import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
@@ -13,18 +13,17 @@ import static org.hamcrest.Matchers.*;
 
 public class ProductAPITest {
     
-    private RestClient restClient;
+    // For demo purposes - actual Flipkart API requires authentication
+    private static final String BASE_URI = "https://fakestoreapi.com";
     
-    @BeforeClass
-    public void setup() {
-        // For demo purposes - actual Flipkart API requires authentication
-        restClient = new RestClient("https://fakestoreapi.com");
+    private RestClient getRestClient() {
+        return TestContext.current().getRestClient(BASE_URI);
     }
     
     @Test(priority = 1, groups = {"broken"},
           description = "Verify GET all products API")
     public void testGetAllProducts() {
-        Response response = restClient.get("/products");
+        Response response = getRestClient().get("/products");
         
         Assert.assertEquals(response.getStatusCode(), 200, 
             "Status code should be 200");
@@ -39,7 +38,7 @@ public class ProductAPITest {
     @Test(priority = 2, groups = {"broken"},
           description = "Verify GET single product API")
     public void testGetSingleProduct() {
-        Response response = restClient.get("/products/1");
+        Response response = getRestClient().get("/products/1");
         
         Assert.assertEquals(response.getStatusCode(), 200, 
             "Status code should be 200");
@@ -54,7 +53,7 @@ public class ProductAPITest {
     @Test(priority = 3, groups = {"api", "regression"}, 
           description = "Verify product search with category filter")
     public void testGetProductsByCategory() {
-        Response response = restClient.get("/products/category/electronics");
+        Response response = getRestClient().get("/products/category/electronics");
         
         Assert.assertEquals(response.getStatusCode(), 200, 
             "Status code should be 200");
@@ -0,0 +1,37 @@
+package com.flipkart.automation.tests.data;
+
+public class SearchProduct {
+    
+    private String product;
+    private String expectedKeyword;
+    private int minResults;
+    
+    public String getProduct() {
+        return product;
+    }
+    
+    public void setProduct(String product) {
+        this.product = product;
+    }
+    
+    public String getExpectedKeyword() {
+        return expectedKeyword;
+    }
+    
+    public void setExpectedKeyword(String expectedKeyword) {
+        this.expectedKeyword = expectedKeyword;
+    }
+    
+    public int getMinResults() {
+        return minResults;
+    }
+    
+    public void setMinResults(int minResults) {
+        this.minResults = minResults;
+    }
+    
+    @Override
+    public String toString() {
+        return product;
+    }
+}
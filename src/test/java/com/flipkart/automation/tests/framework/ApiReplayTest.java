@@ -0,0 +1,212 @@
+package com.flipkart.automation.tests.framework;
+
+import com.flipkart.automation.api.client.RestClient;
+import com.flipkart.automation.api.recording.ApiMode;
+import com.flipkart.automation.api.recording.InteractionStore;
+import com.flipkart.automation.api.recording.RecordedInteraction;
+import com.flipkart.automation.api.recording.RecordingFilter;
+import com.flipkart.automation.api.recording.ReplayServer;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.*;
+
+public class ApiReplayTest {
+
+    @Test(priority = 1, groups = {"framework"},
+          description = "Verify recorded responses replay offline from the local server")
+    public void testRecordThenReplay() throws Exception {
+        AtomicInteger originHits = new AtomicInteger();
+        StubHttpServer origin = startOrigin(originHits);
+        Path recordings = tempFile();
+        String originUrl = origin.getBaseUrl();
+
+        try {
+            InteractionStore store = new InteractionStore(recordings);
+            RecordingFilter recorder = new RecordingFilter(store);
+            RestAssured.given().baseUri(originUrl).filter(recorder).get("/products/1");
+            RestAssured.given().baseUri(originUrl).filter(recorder)
+                .queryParam("sort", "desc").queryParam("limit", "2").get("/products");
+            RestAssured.given().baseUri(originUrl).filter(recorder)
+                .contentType(ContentType.JSON).body("{\"title\":\"phone\"}").post("/products");
+            RestAssured.given().baseUri(originUrl).filter(recorder).contentType(ContentType.JSON)
+                .body("{\"title\":\"tablet\"}".getBytes(StandardCharsets.UTF_8)).post("/products");
+        } finally {
+            origin.close();
+        }
+        Assert.assertEquals(originHits.get(), 4);
+
+        ReplayServer replay = new ReplayServer(new InteractionStore(recordings), 0, 4);
+        try {
+            RestAssured.given().baseUri(replay.getBaseUrl()).get("/products/1")
+                .then().statusCode(200).body("id", equalTo(1)).body("title", equalTo("product 1"));
+
+            RestAssured.given().baseUri(replay.getBaseUrl())
+                .queryParam("limit", "2").queryParam("sort", "desc").get("/products")
+                .then().statusCode(200).body("size()", equalTo(2));
+
+            RestAssured.given().baseUri(replay.getBaseUrl())
+                .contentType(ContentType.JSON).body("{\"title\":\"phone\"}").post("/products")
+                .then().statusCode(201).body("title", equalTo("phone"));
+
+            RestAssured.given().baseUri(replay.getBaseUrl())
+                .contentType(ContentType.JSON).body("{\"title\":\"tablet\"}").post("/products")
+                .then().statusCode(201).body("title", equalTo("tablet"));
+
+            RestAssured.given().baseUri(replay.getBaseUrl()).get("/products/2")
+                .then().statusCode(404).body("request", equalTo("GET /products/2"));
+        } finally {
+            replay.stop();
+        }
+        Assert.assertEquals(originHits.get(), 4, "Replay should never reach the origin");
+    }
+
+    @Test(priority = 2, groups = {"framework"},
+          description = "Verify replay injects latency and serves requests concurrently")
+    public void testReplayLatencyAndConcurrency() throws Exception {
+        Path recordings = tempFile();
+        InteractionStore store = new InteractionStore(recordings);
+        store.record(new RecordedInteraction(
+            InteractionStore.requestKey("GET", "/products/1", null, null), 200, "application/json", "{\"id\":1}"));
+
+        ReplayServer replay = new ReplayServer(store, 200, 8);
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Response>> responses = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int i = 0; i < 8; i++) {
+                responses.add(clients.submit(() -> RestAssured.given().baseUri(replay.getBaseUrl()).get("/products/1")));
+            }
+            for (Future<Response> response : responses) {
+                Assert.assertEquals(response.get(10, TimeUnit.SECONDS).getStatusCode(), 200);
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            Assert.assertTrue(elapsedMillis >= 200, "Latency should be injected, took " + elapsedMillis + " ms");
+            Assert.assertTrue(elapsedMillis < 8 * 200, "Requests should be served concurrently, took "
+                + elapsedMillis + " ms");
+        } finally {
+            clients.shutdownNow();
+            replay.stop();
+        }
+    }
+
+    @Test(priority = 3, groups = {"framework"},
+          description = "Verify repeated requests replay their recorded responses in order")
+    public void testRepeatedRequestsReplayInOrder() throws Exception {
+        Path recordings = tempFile();
+        InteractionStore store = new InteractionStore(recordings);
+        String key = InteractionStore.requestKey("GET", "/carts/1", null, null);
+        store.record(new RecordedInteraction(key, 200, "application/json", "{\"items\":0}"));
+        store.record(new RecordedInteraction(key, 200, "application/json", "{\"items\":1}"));
+
+        InteractionStore reloaded = new InteractionStore(recordings);
+
+        Assert.assertEquals(reloaded.match(key).getBody(), "{\"items\":0}");
+        Assert.assertEquals(reloaded.match(key).getBody(), "{\"items\":1}");
+        Assert.assertEquals(Files.readAllLines(recordings).size(), 2, "Recordings should be one line each");
+    }
+
+    @Test(priority = 4, groups = {"framework"},
+          description = "Verify re-recorded requests replace old recordings when the store is compacted")
+    public void testCompactionSortsAndReplaces() throws Exception {
+        Path recordings = tempFile();
+        String cart = InteractionStore.requestKey("GET", "/carts/1", null, null);
+        String user = InteractionStore.requestKey("GET", "/users/1", null, null);
+        InteractionStore store = new InteractionStore(recordings);
+        store.record(new RecordedInteraction(user, 200, "application/json", "{\"id\":1}"));
+        store.record(new RecordedInteraction(cart, 200, "application/json", "{\"items\":0}"));
+
+        InteractionStore rerecorded = new InteractionStore(recordings);
+        rerecorded.record(new RecordedInteraction(cart, 200, "application/json", "{\"items\":2}"));
+        Assert.assertEquals(Files.readAllLines(recordings).size(), 3, "Recording should only append");
+
+        rerecorded.compact();
+
+        List<String> lines = Files.readAllLines(recordings);
+        Assert.assertEquals(lines.size(), 2, "Compaction should drop the replaced recording");
+        Assert.assertTrue(lines.get(0).contains("{\\\"items\\\":2}"), lines.get(0));
+        Assert.assertTrue(lines.get(1).contains(user), lines.get(1));
+    }
+
+    @Test(priority = 5, groups = {"framework"},
+          description = "Verify a RestClient recording a service under a base path replays it offline")
+    public void testRestClientRecordThenReplayUnderBasePath() throws Exception {
+        AtomicInteger originHits = new AtomicInteger();
+        StubHttpServer origin = startOrigin(originHits, "/api/v1");
+        String baseUri = origin.getBaseUrl() + "/api/v1";
+        InteractionStore store = InteractionStore.forBaseUri(baseUri);
+        Path recordings = store.getFile();
+
+        try {
+            RestClient recorder = new RestClient(baseUri, ApiMode.RECORD);
+            recorder.get("/products/1").then().statusCode(200);
+            recorder.get("/products", Map.of("limit", "2")).then().statusCode(200);
+            origin.close();
+            Assert.assertEquals(originHits.get(), 2);
+
+            store.compact();
+            List<String> lines = Files.readAllLines(recordings);
+            Assert.assertEquals(lines.size(), 2, "Both requests should be recorded");
+            Assert.assertTrue(lines.get(0).contains("GET /api/v1/products/1"),
+                "Recordings should be keyed on the full path: " + lines.get(0));
+
+            new RestClient(baseUri, ApiMode.REPLAY).get("/products/1")
+                .then().statusCode(200).body("title", equalTo("product 1"));
+            new RestClient(baseUri, ApiMode.REPLAY).get("/products", Map.of("limit", "2"))
+                .then().statusCode(200).body("size()", equalTo(2));
+            Assert.assertEquals(originHits.get(), 2, "Replay should never reach the origin");
+        } finally {
+            origin.close();
+            ReplayServer.forStore(store, 0, 1).stop();
+            Files.deleteIfExists(recordings);
+        }
+    }
+
+    private static StubHttpServer startOrigin(AtomicInteger hits) {
+        return startOrigin(hits, "");
+    }
+
+    private static StubHttpServer startOrigin(AtomicInteger hits, String basePath) {
+        return StubHttpServer.start(exchange -> {
+            hits.incrementAndGet();
+            String path = exchange.getRequestURI().getPath();
+            if (!path.startsWith(basePath)) {
+                StubHttpServer.respond(exchange, 404, "text/plain", "Not found: " + path);
+                return;
+            }
+            path = path.substring(basePath.length());
+            if ("POST".equals(exchange.getRequestMethod())) {
+                StubHttpServer.respond(exchange, 201, "application/json",
+                    new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            } else if (path.equals("/products/1")) {
+                StubHttpServer.respond(exchange, 200, "application/json", "{\"id\":1,\"title\":\"product 1\"}");
+            } else {
+                StubHttpServer.respond(exchange, 200, "application/json", "[{\"id\":1},{\"id\":2}]");
+            }
+        });
+    }
+
+    private static Path tempFile() throws IOException {
+        Path file = Files.createTempFile("api-recordings", ".jsonl");
+        Files.delete(file);
+        file.toFile().deleteOnExit();
+        return file;
+    }
+}
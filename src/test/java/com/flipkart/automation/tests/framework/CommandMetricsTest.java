@@ -0,0 +1,64 @@
+package com.flipkart.automation.tests.framework;
+
+import com.flipkart.automation.constants.FrameworkConstants;
+import com.flipkart.automation.drivers.BrowserFactory;
+import com.flipkart.automation.metrics.CommandKey;
+import com.flipkart.automation.metrics.CommandMetrics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+
+public class CommandMetricsTest {
+
+    @Test(priority = 1, groups = {"framework"},
+          description = "Verify commands on found elements are timed under the locator that found them")
+    public void testElementCommandsKeepTheirLocator() {
+        StubHttpServer server = StubHttpServer.start(exchange -> StubHttpServer.respond(exchange, 200, "text/html",
+            "<html><body><input name='metrics-probe'><p class='metrics-item'>one</p>"
+                + "<p class='metrics-item'>two</p></body></html>"));
+        WebDriver driver = BrowserFactory.createDriver(FrameworkConstants.LIGHTWEIGHT_BROWSER, true, null);
+
+        try {
+            driver.get(server.getBaseUrl() + "/");
+            WebElement input = driver.findElement(By.name("metrics-probe"));
+            input.sendKeys("phone");
+            input.isDisplayed();
+            for (WebElement item : driver.findElements(By.className("metrics-item"))) {
+                item.getText();
+            }
+        } finally {
+            BrowserFactory.quitDriver();
+            server.close();
+        }
+
+        Set<CommandKey> keys = CommandMetrics.getSuiteHistograms().keySet();
+        Assert.assertTrue(keys.contains(new CommandKey("sendKeys", "By.name: metrics-probe")), keys.toString());
+        Assert.assertTrue(keys.contains(new CommandKey("isDisplayed", "By.name: metrics-probe")), keys.toString());
+        Assert.assertTrue(keys.contains(new CommandKey("getText", "By.className: metrics-item")), keys.toString());
+        Assert.assertTrue(keys.stream().noneMatch(key -> key.getCommand().equals("hashCode")),
+            "Remembering elements should not be timed as commands: " + keys);
+    }
+
+    @Test(priority = 2, groups = {"framework"},
+          description = "Verify a test's grid slot wait is kept in its own metrics entry")
+    public void testSlotWaitKeptPerTest() throws Exception {
+        String testId = "metrics:slotWaitProbe#" + System.nanoTime();
+
+        // Runs on its own thread so the listener's metrics for this test are left alone
+        Thread invocation = new Thread(() -> {
+            CommandMetrics.startTest();
+            CommandMetrics.recordSlotWait(testId, 1_500_000_000L);
+            CommandMetrics.endTest(testId);
+        });
+        invocation.start();
+        invocation.join();
+
+        Assert.assertTrue(CommandMetrics.getTestHistograms().containsKey(testId),
+            "A test with a slot wait should get an entry even without commands");
+        Assert.assertEquals(CommandMetrics.getSlotWaitNanos(testId), Long.valueOf(1_500_000_000L));
+    }
+}
@@ -0,0 +1,92 @@
+package com.flipkart.automation.tests.framework;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.flipkart.automation.constants.FrameworkConstants;
+import com.flipkart.automation.context.TestContext;
+import com.flipkart.automation.drivers.BrowserFactory;
+import com.flipkart.automation.reports.ExtentReportManager;
+import org.apache.logging.log4j.ThreadContext;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Binds a driver, REST client, wait timeout and report node that are unique to each invocation,
+// yields to other threads, then checks every one of them still belongs to the same invocation
+public abstract class ContextStressBase {
+
+    private static final Set<Long> contextIds = ConcurrentHashMap.newKeySet();
+    private static final Set<ExtentTest> reportNodes = Collections.synchronizedSet(
+        Collections.newSetFromMap(new IdentityHashMap<>()));
+    private static StubHttpServer server;
+
+    @BeforeMethod(alwaysRun = true)
+    public void bindContext() {
+        TestContext context = TestContext.current();
+        context.setExplicitWait(Duration.ofMillis(context.getId()));
+        WebDriver driver = BrowserFactory.createDriver(FrameworkConstants.LIGHTWEIGHT_BROWSER, true, null);
+        driver.get(getBaseUrl() + "/" + token(context));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void releaseContext() {
+        BrowserFactory.quitDriver();
+        TestContext.end();
+    }
+
+    protected void verifyIsolation() {
+        TestContext context = TestContext.current();
+        ExtentTest reportNode = ExtentReportManager.getTest();
+        Assert.assertTrue(contextIds.add(context.getId()), "Context " + context + " was reused by another test");
+        Assert.assertNotNull(reportNode, "Report node should be created for the test");
+        Assert.assertTrue(reportNodes.add(reportNode), "Report node was shared with another test");
+
+        for (int i = 0; i < 3; i++) {
+            pause();
+            Assert.assertSame(TestContext.current(), context);
+            Assert.assertSame(ExtentReportManager.getTest(), reportNode);
+            Assert.assertEquals(ThreadContext.get("test"), context.toString());
+            Assert.assertEquals(context.getExplicitWait().toMillis(), context.getId());
+            Assert.assertTrue(BrowserFactory.getDriver().getCurrentUrl().endsWith("/" + token(context)),
+                "Driver should still be on this test's page: " + BrowserFactory.getDriver().getCurrentUrl());
+
+            String body = context.getRestClient(getBaseUrl() + "/" + token(context)).get("/echo").asString();
+            Assert.assertEquals(body, "/" + token(context) + "/echo", "REST client should keep its own base URI");
+        }
+    }
+
+    private static String token(TestContext context) {
+        return "ctx-" + context.getId();
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(5, 30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Echoes the request path back as plain text or a page title, depending on the path
+    private static synchronized String getBaseUrl() {
+        if (server == null) {
+            server = StubHttpServer.start(exchange -> {
+                String path = exchange.getRequestURI().getPath();
+                if (path.endsWith("/echo")) {
+                    StubHttpServer.respond(exchange, 200, "text/plain", path);
+                } else {
+                    StubHttpServer.respond(exchange, 200, "text/html",
+                        "<html><head><title>" + path + "</title></head></html>");
+                }
+            });
+        }
+        return server.getBaseUrl();
+    }
+}
@@ -0,0 +1,186 @@
+package com.flipkart.automation.tests.framework;
+
+import com.flipkart.automation.constants.FrameworkConstants;
+import com.flipkart.automation.context.TestContext;
+import com.flipkart.automation.drivers.BrowserFactory;
+import com.flipkart.automation.evidence.EvidenceKind;
+import com.flipkart.automation.evidence.FailureEvidence;
+import com.flipkart.automation.evidence.RingBuffer;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.logging.LogEntries;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.Logs;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+
+public class FailureEvidenceTest {
+
+    @Test(priority = 1, groups = {"framework"},
+          description = "Verify the ring buffer keeps only the newest entries in order")
+    public void testRingBufferKeepsNewestEntries() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(i);
+        }
+
+        Assert.assertEquals(buffer.size(), 3);
+        Assert.assertEquals(buffer.toList(), Arrays.asList(3, 4, 5));
+    }
+
+    @Test(priority = 2, groups = {"framework"},
+          description = "Verify failure evidence holds the last commands and URLs without typed values")
+    public void testPersistedTimeline() throws IOException {
+        StubHttpServer server = startPageServer();
+        String url = server.getBaseUrl() + "/";
+        FailureEvidence.start();
+        WebDriver driver = BrowserFactory.createDriver(FrameworkConstants.LIGHTWEIGHT_BROWSER, true, null);
+
+        try {
+            driver.get(url);
+            driver.findElement(By.name("q")).sendKeys("secret-value");
+            for (int i = 0; i < FrameworkConstants.EVIDENCE_BUFFER_SIZE; i++) {
+                driver.findElements(By.id("missing"));
+            }
+
+            String evidenceDir = FailureEvidence.persist("testPersistedTimeline", driver);
+            Assert.assertNotNull(evidenceDir);
+            String timeline = FailureEvidence.readTimeline(evidenceDir);
+
+            Assert.assertEquals(timeline.split("\n").length, FrameworkConstants.EVIDENCE_BUFFER_SIZE,
+                "Timeline should be bounded by the buffer size");
+            Assert.assertTrue(timeline.contains("findElements By.id: missing"));
+            Assert.assertFalse(timeline.contains("secret-value"), "Typed values should never be recorded");
+        } finally {
+            BrowserFactory.quitDriver();
+            server.close();
+        }
+    }
+
+    @Test(priority = 3, groups = {"framework"},
+          description = "Verify discarded evidence is not carried into the next test")
+    public void testDiscardClearsBuffer() {
+        FailureEvidence.start();
+        FailureEvidence.record(EvidenceKind.URLS, "http://previous-test/");
+        FailureEvidence.discard();
+
+        Assert.assertNull(FailureEvidence.persist("testDiscardClearsBuffer", null),
+            "Nothing should be written when no evidence was captured");
+    }
+
+    @Test(priority = 4, groups = {"framework"},
+          description = "Verify console entries are buffered apart and merged in by their own timestamps")
+    public void testConsoleEntriesMergedByTimestamp() {
+        FailureEvidence.start();
+        FailureEvidence.record(EvidenceKind.COMMANDS, "before-console");
+        sleep(20);
+        long consoleTime = System.currentTimeMillis();
+        sleep(20);
+        for (int i = 0; i < FrameworkConstants.EVIDENCE_BUFFER_SIZE; i++) {
+            FailureEvidence.record(EvidenceKind.COMMANDS, "after-console " + i);
+        }
+
+        List<LogEntry> console = new ArrayList<>();
+        for (int i = 0; i < FrameworkConstants.EVIDENCE_CONSOLE_ENTRIES + 10; i++) {
+            console.add(new LogEntry(Level.SEVERE, consoleTime, "console-entry " + i));
+        }
+        String evidenceDir = FailureEvidence.persist("testConsoleEntriesMergedByTimestamp", decorated(console));
+        Assert.assertNotNull(evidenceDir);
+        List<String> lines = Arrays.asList(FailureEvidence.readTimeline(evidenceDir).split("\n"));
+
+        long consoleLines = lines.stream().filter(line -> line.contains("console-entry")).count();
+        Assert.assertEquals(consoleLines, FrameworkConstants.EVIDENCE_CONSOLE_ENTRIES,
+            "Console entries should be bounded by their own buffer");
+        Assert.assertEquals(lines.size() - consoleLines, FrameworkConstants.EVIDENCE_BUFFER_SIZE,
+            "Console entries should not push commands out of the buffer");
+        Assert.assertTrue(indexOf(lines, "console-entry " + (console.size() - 1)) < indexOf(lines, "after-console 0"),
+            "Console entries should be placed by their log timestamp");
+    }
+
+    @Test(priority = 5, groups = {"framework"},
+          description = "Verify parallel invocations of one test keep their evidence apart")
+    public void testParallelInvocationsPersistApart() throws Exception {
+        List<String> evidenceDirs = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> invocations = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            String row = "row " + i;
+            invocations.add(new Thread(() -> {
+                TestContext.begin();
+                try {
+                    FailureEvidence.start();
+                    FailureEvidence.record(EvidenceKind.URLS, row);
+                    evidenceDirs.add(FailureEvidence.persist("testParallelInvocationsPersistApart", null));
+                } finally {
+                    TestContext.end();
+                }
+            }));
+        }
+        for (Thread invocation : invocations) {
+            invocation.start();
+        }
+        for (Thread invocation : invocations) {
+            invocation.join();
+        }
+
+        Assert.assertEquals(evidenceDirs.size(), 2);
+        Assert.assertNotEquals(evidenceDirs.get(0), evidenceDirs.get(1),
+            "Invocations failing in the same second should not share a directory");
+        for (String evidenceDir : evidenceDirs) {
+            Assert.assertEquals(FailureEvidence.readTimeline(evidenceDir).split("\n").length, 1,
+                "Each directory should only hold its own invocation's timeline");
+        }
+    }
+
+    // A decorated driver that only answers log requests through the driver it wraps
+    private static WebDriver decorated(List<LogEntry> console) {
+        Logs logs = (Logs) proxy(Logs.class, (proxy, method, args) ->
+            "get".equals(method.getName()) ? new LogEntries(console) : null);
+        WebDriver.Options options = (WebDriver.Options) proxy(WebDriver.Options.class, (proxy, method, args) ->
+            "logs".equals(method.getName()) ? logs : null);
+        WebDriver rawDriver = (WebDriver) proxy(WebDriver.class, (proxy, method, args) ->
+            "manage".equals(method.getName()) ? options : null);
+        return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+            new Class<?>[] {WebDriver.class, WrapsDriver.class}, (proxy, method, args) -> {
+                if ("getWrappedDriver".equals(method.getName())) {
+                    return rawDriver;
+                }
+                throw new AssertionError("Console logs should be read through the raw driver, not " + method);
+            });
+    }
+
+    private static Object proxy(Class<?> type, InvocationHandler handler) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int indexOf(List<String> lines, String text) {
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).contains(text)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static StubHttpServer startPageServer() {
+        return StubHttpServer.start(exchange -> StubHttpServer.respond(exchange, 200, "text/html",
+            "<html><body><form><input name='q'></form></body></html>"));
+    }
+}
@@ -0,0 +1,266 @@
+package com.flipkart.automation.tests.framework;
+
+import com.flipkart.automation.drivers.GridAdmissionController;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class GridAdmissionControllerTest {
+
+    @Test(priority = 1, groups = {"framework"},
+          description = "Verify concurrent sessions never exceed free grid slots")
+    public void testSessionsLimitedToFreeSlots() throws Exception {
+        AtomicReference<String> status = new AtomicReference<>(gridStatus("chrome", 2));
+        StubHttpServer grid = startStubGrid(status);
+        GridAdmissionController controller = newController(grid, 5000, 5000);
+
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<?>> sessions = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                String sessionId = "ours-" + i;
+                sessions.add(pool.submit(() -> {
+                    WebDriver driver = controller.createSession("chrome", () -> stubDriver(sessionId));
+                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    sleep(100);
+                    active.decrementAndGet();
+                    controller.release("chrome", driver);
+                    return null;
+                }));
+            }
+            for (Future<?> session : sessions) {
+                session.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+            controller.shutdown();
+            grid.close();
+        }
+
+        Assert.assertEquals(maxActive.get(), 2, "Active sessions should be capped at free grid slots");
+        Assert.assertEquals(controller.getAvailableSlots("chrome"), 2, "All slots should be released");
+    }
+
+    @Test(priority = 2, groups = {"framework"},
+          description = "Verify slot wait times out when the grid stays full")
+    public void testSlotWaitTimesOut() throws Exception {
+        AtomicReference<String> status = new AtomicReference<>(gridStatus("chrome", 1, "other"));
+        StubHttpServer grid = startStubGrid(status);
+        GridAdmissionController controller = newController(grid, 200, 5000);
+
+        try {
+            controller.createSession("chrome", () -> stubDriver("ours"));
+            Assert.fail("Session should not be admitted while the grid is full");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("waiting for a free grid slot"), e.getMessage());
+        } finally {
+            controller.shutdown();
+            grid.close();
+        }
+    }
+
+    @Test(priority = 3, groups = {"framework"},
+          description = "Verify queued sessions are admitted when the grid frees a slot")
+    public void testQueuedSessionAdmittedWhenGridFreesSlot() throws Exception {
+        AtomicReference<String> status = new AtomicReference<>(gridStatus("chrome", 1, "other"));
+        StubHttpServer grid = startStubGrid(status);
+        GridAdmissionController controller = newController(grid, 5000, 5000);
+
+        try {
+            new Thread(() -> {
+                sleep(300);
+                status.set(gridStatus("chrome", 1));
+            }).start();
+
+            WebDriver session = controller.createSession("chrome", () -> stubDriver("ours"));
+
+            Assert.assertNotNull(session, "Session should be created once a slot is free");
+            Assert.assertTrue(controller.getLastWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(250),
+                "Slot wait time should be recorded");
+        } finally {
+            controller.shutdown();
+            grid.close();
+        }
+    }
+
+    @Test(priority = 4, groups = {"framework"},
+          description = "Verify a hung session request times out and gives its slot back")
+    public void testSessionCreationTimesOut() throws Exception {
+        AtomicReference<String> status = new AtomicReference<>(gridStatus("chrome", 1));
+        StubHttpServer grid = startStubGrid(status);
+        GridAdmissionController controller = newController(grid, 5000, 200);
+
+        try {
+            controller.createSession("chrome", () -> {
+                sleep(600);
+                return stubDriver("ours");
+            });
+            Assert.fail("Session creation should time out");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("creating a grid session"), e.getMessage());
+            Assert.assertEquals(controller.getAvailableSlots("chrome"), 0,
+                "Slot should be held until the hung session completes");
+            sleep(800);
+            Assert.assertEquals(controller.getAvailableSlots("chrome"), 1,
+                "Slot should be released once the hung session completes");
+        } finally {
+            controller.shutdown();
+            grid.close();
+        }
+    }
+
+    @Test(priority = 5, groups = {"framework"},
+          description = "Verify a session still starting is not counted as a second free slot")
+    public void testStartingSessionNotCountedTwice() throws Exception {
+        // The grid keeps reporting the slot as free while the browser starts, as Selenium Grid 4 does
+        AtomicReference<String> status = new AtomicReference<>(gridStatus("chrome", 1));
+        StubHttpServer grid = startStubGrid(status);
+        GridAdmissionController controller = newController(grid, 400, 5000);
+
+        try {
+            CompletableFuture<WebDriver> starting = CompletableFuture.supplyAsync(() ->
+                controller.createSession("chrome", () -> {
+                    sleep(1000);
+                    return stubDriver("ours");
+                }));
+            sleep(100);
+
+            try {
+                controller.createSession("chrome", () -> stubDriver("second"));
+                Assert.fail("A second session should not be admitted while the first is starting");
+            } catch (RuntimeException e) {
+                Assert.assertTrue(e.getMessage().contains("waiting for a free grid slot"), e.getMessage());
+            }
+            Assert.assertEquals(controller.getAvailableSlots("chrome"), 0,
+                "Refreshes during start-up should not add a permit");
+
+            WebDriver driver = starting.get(5, TimeUnit.SECONDS);
+            status.set(gridStatus("chrome", 1, "ours"));
+            sleep(300);
+            Assert.assertEquals(controller.getAvailableSlots("chrome"), 0,
+                "Our busy session should not free a permit either");
+
+            controller.release("chrome", driver);
+            status.set(gridStatus("chrome", 1));
+            sleep(300);
+            Assert.assertEquals(controller.getAvailableSlots("chrome"), 1);
+        } finally {
+            controller.shutdown();
+            grid.close();
+        }
+    }
+
+    @Test(priority = 6, groups = {"framework"},
+          description = "Verify slots are taken back when other grid clients fill the grid")
+    public void testSlotsShrinkWhenGridFillsUp() throws Exception {
+        AtomicReference<String> status = new AtomicReference<>(gridStatus("chrome", 2));
+        StubHttpServer grid = startStubGrid(status);
+        GridAdmissionController controller = newController(grid, 300, 5000);
+
+        try {
+            WebDriver driver = controller.createSession("chrome", () -> stubDriver("ours"));
+            status.set(gridStatus("chrome", 2, "ours"));
+            sleep(300);
+            Assert.assertEquals(controller.getAvailableSlots("chrome"), 1,
+                "Our own session should not be counted against the free slots");
+
+            status.set(gridStatus("chrome", 2, "ours", "other"));
+            sleep(300);
+            Assert.assertEquals(controller.getAvailableSlots("chrome"), 0,
+                "A slot taken by another client should be taken back");
+            try {
+                controller.createSession("chrome", () -> stubDriver("second"));
+                Assert.fail("Session should not be admitted once the grid is full");
+            } catch (RuntimeException e) {
+                Assert.assertTrue(e.getMessage().contains("waiting for a free grid slot"), e.getMessage());
+            }
+
+            controller.release("chrome", driver);
+            status.set(gridStatus("chrome", 2, "other"));
+            sleep(300);
+            Assert.assertEquals(controller.getAvailableSlots("chrome"), 1,
+                "The released slot should be available again");
+        } finally {
+            controller.shutdown();
+            grid.close();
+        }
+    }
+
+    @Test(priority = 7, groups = {"framework"},
+          description = "Verify a browser missing from the grid fails fast")
+    public void testUnsupportedBrowserFailsFast() throws Exception {
+        AtomicReference<String> status = new AtomicReference<>(gridStatus("chrome", 2));
+        StubHttpServer grid = startStubGrid(status);
+        GridAdmissionController controller = newController(grid, 5000, 5000);
+
+        try {
+            controller.createSession("firefox", () -> stubDriver("ours"));
+            Assert.fail("Session should not be admitted for a browser the grid does not offer");
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage().contains("firefox"), e.getMessage());
+        } finally {
+            controller.shutdown();
+            grid.close();
+        }
+    }
+
+    private static GridAdmissionController newController(StubHttpServer grid, long slotTimeoutMs,
+            long sessionTimeoutMs) {
+        return new GridAdmissionController(grid.getBaseUrl() + "/wd/hub",
+            Duration.ofMillis(slotTimeoutMs), Duration.ofMillis(sessionTimeoutMs), Duration.ofMillis(50));
+    }
+
+    private static StubHttpServer startStubGrid(AtomicReference<String> status) {
+        return StubHttpServer.start(exchange ->
+            StubHttpServer.respond(exchange, 200, "application/json", status.get()));
+    }
+
+    // One node with the given number of slots; the first slots run the given sessions, the rest are free
+    private static String gridStatus(String browser, int slots, String... sessions) {
+        StringBuilder slotJson = new StringBuilder();
+        for (int i = 0; i < slots; i++) {
+            if (i > 0) {
+                slotJson.append(',');
+            }
+            slotJson.append("{\"stereotype\":{\"browserName\":\"").append(browser).append("\"},")
+                .append("\"session\":").append(i < sessions.length ? "{\"sessionId\":\"" + sessions[i] + "\"}" : "null")
+                .append('}');
+        }
+        return "{\"value\":{\"ready\":true,\"nodes\":[{\"availability\":\"UP\",\"maxSessions\":" + slots
+            + ",\"slots\":[" + slotJson + "]}]}}";
+    }
+
+    private static WebDriver stubDriver(String sessionId) {
+        return new RemoteWebDriver() {
+            {
+                setSessionId(sessionId);
+            }
+
+            @Override
+            public void quit() {
+            }
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
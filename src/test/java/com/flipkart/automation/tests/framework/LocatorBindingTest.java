@@ -0,0 +1,199 @@
+package com.flipkart.automation.tests.framework;
+
+import com.flipkart.automation.binding.LazyElement;
+import com.flipkart.automation.binding.LazyElementList;
+import com.flipkart.automation.binding.processor.LocatorBindingProcessor;
+import com.flipkart.automation.constants.FrameworkConstants;
+import com.flipkart.automation.drivers.BrowserFactory;
+import com.flipkart.automation.pages.HomePage;
+import com.flipkart.automation.pages.SearchResultsPage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ByChained;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class LocatorBindingTest {
+
+    private static final String HOME_PAGE = "<html><head><title>Home</title></head><body>"
+        + "<button type='button' class='close'>x</button>"
+        + "<form action='/search'><input name='q'><button type='submit'>Search</button></form>"
+        + "</body></html>";
+
+    private static final String RESULTS_PAGE = "<html><head><title>Results</title></head><body>"
+        + "<span>3 results for phone</span>"
+        + "<div class='product'><div class='product-title'>Phone 1</div></div>"
+        + "<div class='product'><div class='product-title'>Phone 2</div></div>"
+        + "<div class='product'><div class='product-title'>Phone 3</div></div>"
+        + "</body></html>";
+
+    @Test(priority = 1, groups = {"framework"},
+          description = "Verify generated bindings drive the page objects and resolve lists lazily")
+    public void testGeneratedBindingsDrivePages() throws IOException {
+        StubHttpServer server = startSiteServer();
+        String url = server.getBaseUrl();
+        WebDriver driver = BrowserFactory.createDriver(FrameworkConstants.LIGHTWEIGHT_BROWSER, true, null);
+
+        try {
+            driver.get(url + "/");
+            HomePage homePage = new HomePage(driver);
+            Assert.assertTrue(homePage.isHomePageDisplayed(), "Search box should be bound");
+
+            SearchResultsPage results = homePage.searchProduct("phone");
+            Assert.assertTrue(results.areSearchResultsDisplayed(), "Results text should be bound");
+            Assert.assertTrue(results.getProductCount() >= 3, "Product list should find every product");
+            Assert.assertEquals(results.getFirstProductTitle(), "Phone 1");
+
+            driver.get(url + "/");
+            Assert.assertEquals(results.getFirstProductTitle(), "", "Lists should be looked up on every read");
+        } finally {
+            BrowserFactory.quitDriver();
+            server.close();
+        }
+    }
+
+    @Test(priority = 2, groups = {"framework"},
+          description = "Verify malformed locators fail the build with the field named")
+    public void testInvalidLocatorsFailCompilation() throws IOException {
+        List<String> errors = compile("BrokenPage",
+            "import org.openqa.selenium.WebElement;\n"
+            + "import org.openqa.selenium.support.FindBy;\n"
+            + "import java.util.List;\n"
+            + "public class BrokenPage {\n"
+            + "    @FindBy(xpath = \"//div[@class='product'\") WebElement unclosedXpath;\n"
+            + "    @FindBy(css = \"div.product >\") List<WebElement> danglingCss;\n"
+            + "    @FindBy(className = \"product title\") WebElement compoundClass;\n"
+            + "    @FindBy(id = \"title\") private WebElement privateField;\n"
+            + "    @FindBy(id = \"title\") String wrongType;\n"
+            + "}\n");
+
+        Assert.assertEquals(errors.size(), 5, "Every broken field should be reported: " + errors);
+        Assert.assertTrue(errors.get(0).startsWith("Invalid @FindBy xpath locator"), errors.get(0));
+        Assert.assertTrue(errors.get(1).contains("dangling combinator"), errors.get(1));
+        Assert.assertTrue(errors.get(2).contains("compound class names"), errors.get(2));
+        Assert.assertTrue(errors.get(3).contains("must not be private"), errors.get(3));
+        Assert.assertTrue(errors.get(4).contains("WebElement or List<WebElement>"), errors.get(4));
+    }
+
+    @Test(priority = 3, groups = {"framework"},
+          description = "Verify @FindBys, @FindAll, @CacheLookup and unannotated elements are bound instead of left null")
+    public void testCombinedLocatorsAndCacheLookup() throws Exception {
+        Path output = Files.createTempDirectory("locator-bindings");
+        List<String> errors = compile("CombinedPage", output,
+            "import org.openqa.selenium.WebElement;\n"
+            + "import org.openqa.selenium.support.CacheLookup;\n"
+            + "import org.openqa.selenium.support.FindAll;\n"
+            + "import org.openqa.selenium.support.FindBy;\n"
+            + "import org.openqa.selenium.support.FindBys;\n"
+            + "import java.util.List;\n"
+            + "public class CombinedPage {\n"
+            + "    @FindBys({@FindBy(className = \"product\"), @FindBy(css = \".product-title\")}) List<WebElement> titles;\n"
+            + "    @FindAll({@FindBy(id = \"q\"), @FindBy(name = \"q\")}) WebElement searchBox;\n"
+            + "    @CacheLookup @FindBy(tagName = \"form\") WebElement form;\n"
+            + "    WebElement searchButton;\n"
+            + "    @CacheLookup WebElement logo;\n"
+            + "    String title;\n"
+            + "}\n");
+        Assert.assertTrue(errors.isEmpty(), "Combined locators should compile: " + errors);
+
+        String bindings = new String(Files.readAllBytes(output.resolve("CombinedPageBindings.java")),
+            StandardCharsets.UTF_8);
+        Assert.assertTrue(bindings.contains(
+            "TITLES = new ByChained(By.className(\"product\"), By.cssSelector(\".product-title\"))"), bindings);
+        Assert.assertTrue(bindings.contains("SEARCH_BOX = new ByAll(By.id(\"q\"), By.name(\"q\"))"), bindings);
+        Assert.assertTrue(bindings.contains("new LazyElement(context, FORM, true)"), bindings);
+        Assert.assertTrue(bindings.contains("new LazyElementList(context, TITLES);"), bindings);
+        Assert.assertTrue(bindings.contains("SEARCH_BUTTON = new ByIdOrName(\"searchButton\")"), bindings);
+        Assert.assertTrue(bindings.contains("new LazyElement(context, LOGO, true)"), bindings);
+        Assert.assertFalse(bindings.contains("TITLE ="), "Fields that are not elements should be left alone");
+
+        StubHttpServer server = startSiteServer();
+        WebDriver driver = BrowserFactory.createDriver(FrameworkConstants.LIGHTWEIGHT_BROWSER, true, null);
+        try {
+            driver.get(server.getBaseUrl() + "/search");
+            Assert.assertEquals(new LazyElementList(driver, new ByChained(By.className("product"),
+                By.className("product-title"))).size(), 3, "Chained locators should search inside each match");
+
+            driver.get(server.getBaseUrl() + "/");
+            LazyElement cached = new LazyElement(driver, By.tagName("form"), true);
+            LazyElement fresh = new LazyElement(driver, By.tagName("form"));
+            WebElement first = cached.getWrappedElement();
+            driver.navigate().refresh();
+            Assert.assertSame(cached.getWrappedElement(), first, "@CacheLookup should keep the first element");
+            Assert.assertNotSame(fresh.getWrappedElement(), first, "Other fields should look the element up again");
+        } finally {
+            BrowserFactory.quitDriver();
+            server.close();
+        }
+
+        List<String> misuse = compile("MisusedPage",
+            "import org.openqa.selenium.WebElement;\n"
+            + "import org.openqa.selenium.support.CacheLookup;\n"
+            + "import org.openqa.selenium.support.FindAll;\n"
+            + "import org.openqa.selenium.support.FindBy;\n"
+            + "import org.openqa.selenium.support.FindBys;\n"
+            + "import java.util.List;\n"
+            + "public class MisusedPage {\n"
+            + "    @CacheLookup List<WebElement> noLocator;\n"
+            + "    @FindBy(id = \"a\") @FindAll({@FindBy(id = \"b\")}) WebElement twoLocators;\n"
+            + "    @FindBys({@FindBy(xpath = \"//div[\")}) WebElement brokenChain;\n"
+            + "    private WebElement hidden;\n"
+            + "}\n");
+        Assert.assertEquals(misuse.size(), 4, "Every misused field should be reported: " + misuse);
+        Assert.assertTrue(misuse.get(0).contains("List<WebElement> field noLocator needs"), misuse.get(0));
+        Assert.assertTrue(misuse.get(1).contains("only one of @FindBy, @FindBys or @FindAll"), misuse.get(1));
+        Assert.assertTrue(misuse.get(2).startsWith("Invalid @FindBy xpath locator"), misuse.get(2));
+        Assert.assertTrue(misuse.get(3).contains("WebElement field hidden has no locator"), misuse.get(3));
+    }
+
+    private static List<String> compile(String className, String source) throws IOException {
+        return compile(className, Files.createTempDirectory("locator-bindings"), source);
+    }
+
+    private static List<String> compile(String className, Path output, String source) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        String classPath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+
+        JavaFileObject file = new SimpleJavaFileObject(
+                URI.create("string:///" + className + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+            Arrays.asList("-classpath", classPath, "-d", output.toString(), "-s", output.toString()),
+            null, Collections.singletonList(file));
+        task.setProcessors(Collections.singletonList(new LocatorBindingProcessor()));
+        task.call();
+
+        return diagnostics.getDiagnostics().stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .sorted((a, b) -> Long.compare(a.getLineNumber(), b.getLineNumber()))
+            .map(diagnostic -> diagnostic.getMessage(null))
+            .collect(Collectors.toList());
+    }
+
+    private static StubHttpServer startSiteServer() {
+        return StubHttpServer.start(exchange -> StubHttpServer.respond(exchange, 200, "text/html",
+            exchange.getRequestURI().getPath().startsWith("/search") ? RESULTS_PAGE : HOME_PAGE));
+    }
+}
@@ -0,0 +1,30 @@
+package com.flipkart.automation.tests.framework;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class ParallelDataProviderContextTest extends ContextStressBase {
+
+    private static final int ROW_COUNT = 24;
+
+    @DataProvider(name = "rows", parallel = true)
+    public Object[][] rows() {
+        Object[][] rows = new Object[ROW_COUNT][];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows[i] = new Object[] {i};
+        }
+        return rows;
+    }
+
+    @Test(groups = {"framework"}, dataProvider = "rows",
+          description = "Verify test context does not leak between parallel data provider rows")
+    public void testContextIsolatedAcrossRows(int row) {
+        verifyIsolation();
+    }
+
+    @Test(groups = {"framework"},
+          description = "Verify test context does not leak between parallel methods of one instance")
+    public void testContextIsolatedAcrossMethods() {
+        verifyIsolation();
+    }
+}
@@ -0,0 +1,37 @@
+package com.flipkart.automation.tests.framework;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+
+public class ParallelInstancesContextTest extends ContextStressBase {
+
+    private static final int INSTANCE_COUNT = 24;
+
+    private final int instance;
+
+    @Factory(dataProvider = "instances")
+    public ParallelInstancesContextTest(int instance) {
+        this.instance = instance;
+    }
+
+    @DataProvider(name = "instances")
+    public static Object[][] instances() {
+        Object[][] instances = new Object[INSTANCE_COUNT][];
+        for (int i = 0; i < INSTANCE_COUNT; i++) {
+            instances[i] = new Object[] {i};
+        }
+        return instances;
+    }
+
+    @Test(groups = {"framework"},
+          description = "Verify test context does not leak between parallel class instances")
+    public void testContextIsolatedAcrossInstances() {
+        verifyIsolation();
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelInstancesContextTest[" + instance + "]";
+    }
+}
@@ -0,0 +1,97 @@
+package com.flipkart.automation.tests.framework;
+
+import com.flipkart.automation.context.TestContext;
+import com.flipkart.automation.utils.WaitUtil;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.ITestResult;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class TestContextTest {
+
+    @Test(priority = 1, groups = {"framework"},
+          description = "Verify the test context is not available outside a test invocation")
+    public void testCurrentFailsOutsideInvocation() throws Exception {
+        Throwable error = CompletableFuture.supplyAsync(() -> {
+            try {
+                TestContext.current();
+                return null;
+            } catch (IllegalStateException e) {
+                return e;
+            }
+        }).get(10, TimeUnit.SECONDS);
+
+        Assert.assertNotNull(error, "current() should fail on a thread with no invocation");
+        Assert.assertTrue(error.getMessage().contains("No test context"), error.getMessage());
+    }
+
+    @Test(priority = 2, groups = {"framework"},
+          description = "Verify a context is bound to one test result and never reused by the next")
+    public void testContextBoundToTestResult() throws Exception {
+        ITestResult first = stubResult();
+        ITestResult second = stubResult();
+
+        String failure = CompletableFuture.supplyAsync(() -> {
+            try {
+                TestContext beforeMethod = TestContext.begin();
+                Assert.assertSame(TestContext.begin(), beforeMethod, "@BeforeMethods should share a context");
+                Assert.assertSame(TestContext.begin(first), beforeMethod, "The test should adopt its setup context");
+                Assert.assertSame(TestContext.begin(first), beforeMethod, "Listeners should join the bound context");
+
+                TestContext next = TestContext.begin();
+                Assert.assertNotSame(next, beforeMethod, "The next @BeforeMethod should not reuse a bound context");
+                Assert.assertSame(TestContext.begin(second), next);
+                Assert.assertNotSame(TestContext.begin(first), next,
+                    "A context bound to another result should never be reused");
+                return null;
+            } catch (AssertionError e) {
+                return e.getMessage();
+            } finally {
+                TestContext.end();
+            }
+        }).get(10, TimeUnit.SECONDS);
+
+        Assert.assertNull(failure, failure);
+    }
+
+    @Test(priority = 3, groups = {"framework"},
+          description = "Verify waits use the page's driver and fail loudly outside an invocation")
+    public void testWaitsOutsideInvocation() throws Exception {
+        WebDriver driver = (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+            new Class<?>[] {WebDriver.class}, (proxy, method, args) -> null);
+        WebElement element = (WebElement) Proxy.newProxyInstance(WebElement.class.getClassLoader(),
+            new Class<?>[] {WebElement.class}, (proxy, method, args) -> "isDisplayed".equals(method.getName()));
+
+        Object outcome = CompletableFuture.supplyAsync(() -> {
+            if (!WaitUtil.waitForElementToBeVisible(driver, element, 1)) {
+                return "Visibility wait should use the driver it is given";
+            }
+            try {
+                return WaitUtil.waitForElementToBeClickable(driver, element);
+            } catch (IllegalStateException e) {
+                return e;
+            }
+        }).get(10, TimeUnit.SECONDS);
+
+        Assert.assertTrue(outcome instanceof IllegalStateException,
+            "A missing context should not be reported as a failed wait: " + outcome);
+    }
+
+    private static ITestResult stubResult() {
+        return (ITestResult) Proxy.newProxyInstance(ITestResult.class.getClassLoader(),
+            new Class<?>[] {ITestResult.class}, (proxy, method, args) -> {
+                if ("equals".equals(method.getName())) {
+                    return proxy == args[0];
+                }
+                if ("hashCode".equals(method.getName())) {
+                    return System.identityHashCode(proxy);
+                }
+                return null;
+            });
+    }
+}
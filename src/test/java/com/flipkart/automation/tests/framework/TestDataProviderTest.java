@@ -0,0 +1,140 @@
+package com.flipkart.automation.tests.framework;
+
+import com.flipkart.automation.data.TestDataProvider;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+
+public class TestDataProviderTest {
+
+    private static final int LARGE_ROW_COUNT = 100_000;
+
+    @Test(priority = 1, groups = {"framework"},
+          description = "Verify large CSV files stream with tag and environment filters")
+    public void testCsvStreamsWithFilters() throws IOException {
+        Path csv = tempFile(".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            writer.write("id,name,tags,environment\n");
+            for (int i = 0; i < LARGE_ROW_COUNT; i++) {
+                writer.write(i + ",product " + i + "," + (i % 2 == 0 ? "even" : "odd") + "|all,"
+                    + (i % 4 < 2 ? "qa" : "staging") + "\n");
+            }
+        }
+
+        long matched = 0;
+        Iterator<Product> products = TestDataProvider.records(csv, Product.class, "qa", "even");
+        while (products.hasNext()) {
+            Product product = products.next();
+            Assert.assertEquals(product.id % 4, 0, "Only even qa rows should be returned");
+            matched++;
+        }
+
+        Assert.assertEquals(matched, LARGE_ROW_COUNT / 4);
+    }
+
+    @Test(priority = 2, groups = {"framework"},
+          description = "Verify large Excel workbooks stream through the event reader")
+    public void testExcelStreamsTypedRecords() throws IOException {
+        Path xlsx = tempFile(".xlsx");
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+                OutputStream out = Files.newOutputStream(xlsx)) {
+            Sheet sheet = workbook.createSheet("Products");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("id");
+            header.createCell(1).setCellValue("name");
+            for (int i = 1; i <= LARGE_ROW_COUNT; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue(i);
+                row.createCell(1).setCellValue("product " + i);
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+
+        long count = 0;
+        Product last = null;
+        Iterator<Object[]> rows = TestDataProvider.stream(xlsx, Product.class, "qa");
+        while (rows.hasNext()) {
+            last = (Product) rows.next()[0];
+            count++;
+        }
+
+        Assert.assertEquals(count, LARGE_ROW_COUNT);
+        Assert.assertNotNull(last);
+        Assert.assertEquals(last.id, LARGE_ROW_COUNT);
+        Assert.assertEquals(last.name, "product " + LARGE_ROW_COUNT);
+    }
+
+    @Test(priority = 3, groups = {"framework"},
+          description = "Verify JSON Lines rows support array tags and raw map records")
+    public void testJsonLinesRows() throws IOException {
+        Path jsonl = tempFile(".jsonl");
+        Files.write(jsonl, String.join("\n",
+            "{\"id\": 1, \"name\": \"phone\", \"tags\": [\"smoke\"]}",
+            "",
+            "{\"id\": 2, \"name\": \"laptop\", \"tags\": [\"regression\"], \"environment\": \"prod\"}",
+            "{\"id\": 3, \"name\": \"tablet\", \"tags\": [\"regression\", \"smoke\"]}").getBytes(StandardCharsets.UTF_8));
+
+        Iterator<Map> rows = TestDataProvider.records(jsonl, Map.class, "qa", "smoke");
+
+        Assert.assertEquals(rows.next().get("name"), "phone");
+        Assert.assertEquals(rows.next().get("name"), "tablet");
+        Assert.assertFalse(rows.hasNext());
+    }
+
+    @Test(priority = 4, groups = {"framework"},
+          description = "Verify quoted CSV fields are parsed")
+    public void testCsvQuotedFields() throws IOException {
+        Path csv = tempFile(".csv");
+        Files.write(csv, String.join("\n",
+            "id,name",
+            "1,\"Samsung Galaxy, 5G\"",
+            "2,\"15\"\" \"\"Pro\"\"\"").getBytes(StandardCharsets.UTF_8));
+
+        Iterator<Product> products = TestDataProvider.records(csv, Product.class, "qa");
+
+        Assert.assertEquals(products.next().name, "Samsung Galaxy, 5G");
+        Assert.assertEquals(products.next().name, "15\" \"Pro\"");
+        Assert.assertFalse(products.hasNext());
+    }
+
+    @Test(priority = 5, groups = {"framework"},
+          description = "Verify CSV whitespace is kept inside quotes and a byte order mark is ignored")
+    public void testCsvWhitespaceAndByteOrderMark() throws IOException {
+        Path csv = tempFile(".csv");
+        Files.write(csv, String.join("\n",
+            "\uFEFFid, name ",
+            " 1 ,  Pixel 8  ",
+            "2, \"  Pixel 8 Pro \" ").getBytes(StandardCharsets.UTF_8));
+
+        Iterator<Product> products = TestDataProvider.records(csv, Product.class, "qa");
+
+        Product first = products.next();
+        Assert.assertEquals(first.id, 1, "Header with a byte order mark should still map to id");
+        Assert.assertEquals(first.name, "Pixel 8", "Unquoted fields should be trimmed");
+        Assert.assertEquals(products.next().name, "  Pixel 8 Pro ", "Quoted fields should keep their spaces");
+        Assert.assertFalse(products.hasNext());
+    }
+
+    private static Path tempFile(String suffix) throws IOException {
+        Path file = Files.createTempFile("test-data", suffix);
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    public static class Product {
+        public int id;
+        public String name;
+    }
+}
@@ -0,0 +1,31 @@
+package com.flipkart.automation.tests.ui;
+
+import com.flipkart.automation.base.BaseTest;
+import com.flipkart.automation.listeners.RetryAnalyzer;
+import com.flipkart.automation.pages.HomePage;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class HomePageMarkupTest extends BaseTest {
+    
+    @Test(priority = 1, groups = {"lightweight", "regression"}, 
+          description = "Verify home page title is server rendered",
+          retryAnalyzer = RetryAnalyzer.class)
+    public void testHomePageTitle() {
+        HomePage homePage = new HomePage(getDriver());
+        
+        Assert.assertTrue(homePage.getPageTitle().toLowerCase().contains("flipkart"), 
+            "Page title should contain 'flipkart'");
+    }
+    
+    @Test(priority = 2, groups = {"lightweight", "regression"}, 
+          description = "Verify home page SEO meta description is present",
+          retryAnalyzer = RetryAnalyzer.class)
+    public void testHomePageMetaDescription() {
+        HomePage homePage = new HomePage(getDriver());
+        String description = homePage.getMetaContent("description");
+        
+        Assert.assertNotNull(description, "Meta description should be present");
+        Assert.assertFalse(description.trim().isEmpty(), "Meta description should not be empty");
+    }
+}
@@ -1,46 +1,65 @@
 package com.flipkart.automation.tests.ui;
 
 import com.flipkart.automation.base.BaseTest;
+import com.flipkart.automation.data.TestDataProvider;
 import com.flipkart.automation.listeners.RetryAnalyzer;
 import com.flipkart.automation.pages.HomePage;
 import com.flipkart.automation.pages.SearchResultsPage;
+import com.flipkart.automation.tests.data.SearchProduct;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Iterator;
+
 public class SearchTest extends BaseTest {
     
+    private static final String SEARCH_DATA = "search-products.csv";
+    
+    @DataProvider(name = "singleKeywordProducts", parallel = true)
+    public Iterator<Object[]> singleKeywordProducts() {
+        return TestDataProvider.stream(SEARCH_DATA, SearchProduct.class, "single-keyword");
+    }
+    
+    @DataProvider(name = "multiKeywordProducts", parallel = true)
+    public Iterator<Object[]> multiKeywordProducts() {
+        return TestDataProvider.stream(SEARCH_DATA, SearchProduct.class, "multi-keyword");
+    }
+    
     @Test(priority = 1, groups = {"smoke", "regression"}, 
           description = "Verify search functionality with valid product",
+          dataProvider = "singleKeywordProducts",
           retryAnalyzer = RetryAnalyzer.class)
-    public void testSearchWithValidProduct() {
-        HomePage homePage = new HomePage(driver);
+    public void testSearchWithValidProduct(SearchProduct data) {
+        HomePage homePage = new HomePage(getDriver());
         
         Assert.assertTrue(homePage.isHomePageDisplayed(), 
             "Home page should be displayed");
         
-        SearchResultsPage searchResults = homePage.searchProduct("iPhone 15");
+        SearchResultsPage searchResults = homePage.searchProduct(data.getProduct());
         
         Assert.assertTrue(searchResults.areSearchResultsDisplayed(), 
             "Search results should be displayed");
         
-        Assert.assertTrue(searchResults.getProductCount() > 0, 
-            "Product count should be greater than 0");
+        Assert.assertTrue(searchResults.getProductCount() >= data.getMinResults(), 
+            "Product count should be at least " + data.getMinResults());
         
         String firstProduct = searchResults.getFirstProductTitle();
-        Assert.assertTrue(firstProduct.toLowerCase().contains("iphone"), 
-            "First product should contain 'iphone'");
+        Assert.assertTrue(firstProduct.toLowerCase().contains(data.getExpectedKeyword()), 
+            "First product should contain '" + data.getExpectedKeyword() + "'");
     }
     
     @Test(priority = 2, groups = {"regression"}, 
           description = "Verify search with multiple products",
+          dataProvider = "multiKeywordProducts",
           retryAnalyzer = RetryAnalyzer.class)
-    public void testSearchWithMultipleKeywords() {
-        HomePage homePage = new HomePage(driver);
-        SearchResultsPage searchResults = homePage.searchProduct("Samsung Galaxy");
+    public void testSearchWithMultipleKeywords(SearchProduct data) {
+        HomePage homePage = new HomePage(getDriver());
+        SearchResultsPage searchResults = homePage.searchProduct(data.getProduct());
         
         Assert.assertTrue(searchResults.areSearchResultsDisplayed(), 
             "Search results should be displayed");
-        Assert.assertTrue(searchResults.getProductCount() > 5, 
-            "Should have multiple products");
+        Assert.assertTrue(searchResults.getProductCount() >= data.getMinResults(), 
+            "Should have at least " + data.getMinResults() + " products");
     }
 }